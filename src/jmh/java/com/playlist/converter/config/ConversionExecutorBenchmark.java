@@ -0,0 +1,85 @@
+package com.playlist.converter.config;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrent-conversion capacity of platform vs virtual conversion workers.
+ *
+ * Each simulated conversion makes {@link #CALLS_PER_JOB} blocking upstream calls of
+ * {@link #CALL_LATENCY_MS} ms, like the .block()ed WebClient calls in the real services.
+ * {@code drainBacklog} reports the time to finish a backlog of jobs; {@code holdInFlight} starts one
+ * worker per job and, with {@code -prof gc}, its gc.alloc.rate.norm divided by {@code jobs} approximates
+ * the heap cost of one in-flight job. Platform threads additionally reserve a native stack (-Xss) that
+ * the GC profiler does not see. The virtual mode needs a Java 21+ runtime.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConversionExecutorBenchmark {
+
+    static final int CALLS_PER_JOB = 10;
+    static final long CALL_LATENCY_MS = 10;
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    @Param({"5", "200"})
+    private int workers;
+
+    @Param({"1000"})
+    private int jobs;
+
+    private ThreadFactory threadFactory;
+
+    @Setup
+    public void setUp() {
+        threadFactory = "virtual".equals(mode)
+                ? new VirtualThreadTaskExecutor("bench-").getVirtualThreadFactory()
+                : new CustomizableThreadFactory("bench-");
+    }
+
+    @Benchmark
+    public void drainBacklog() throws InterruptedException {
+        runJobs(workers);
+    }
+
+    @Benchmark
+    public void holdInFlight() throws InterruptedException {
+        runJobs(jobs);
+    }
+
+    private void runJobs(int poolSize) throws InterruptedException {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), threadFactory);
+        CountDownLatch done = new CountDownLatch(jobs);
+        try {
+            for (int i = 0; i < jobs; i++) {
+                executor.execute(() -> {
+                    try {
+                        for (int call = 0; call < CALLS_PER_JOB; call++) {
+                            Thread.sleep(CALL_LATENCY_MS);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            done.await();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.playlist.converter.repository;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one page of conversion history deep into a large table: LIMIT/OFFSET against the keyset
+ * (seek) query ConversionRepository uses, both on idx_conversions_user_created.
+ *
+ * The table is seeded in H2 with {@code rows} conversions spread over {@link #USERS} users and queried for
+ * the first user at page {@code page}. Offset latency grows with the page number because every skipped row
+ * is read; keyset latency should stay flat.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConversionHistoryBenchmark {
+
+    static final int USERS = 20;
+    static final int PAGE_SIZE = 20;
+    static final String USER = "user0";
+
+    // Same columns as the conversions table generated from ConversionResult, minus unused ones
+    private static final String SCHEMA = """
+            create table conversions (
+                id bigint generated by default as identity primary key,
+                conversion_id varchar(255) not null unique,
+                youtube_playlist_url varchar(255) not null,
+                spotify_user_id varchar(255) not null,
+                status varchar(255) not null,
+                total_tracks integer,
+                matched_tracks integer,
+                skipped_tracks integer,
+                created_at timestamp(6) not null,
+                completed_at timestamp(6)
+            );
+            create index idx_conversions_user_created on conversions (spotify_user_id, created_at, id);
+            create index idx_conversions_status_created on conversions (status, created_at, id);
+            """;
+
+    private static final String COLUMNS = "select id, conversion_id, status, total_tracks, matched_tracks, "
+            + "skipped_tracks, created_at, completed_at from conversions where spotify_user_id = ? ";
+
+    private static final String OFFSET_PAGE = COLUMNS
+            + "order by created_at desc, id desc limit ? offset ?";
+
+    private static final String KEYSET_PAGE = COLUMNS
+            + "and (created_at < ? or (created_at = ? and id < ?)) order by created_at desc, id desc limit ?";
+
+    @Param({"2000000"})
+    private int rows;
+
+    @Param({"1", "100", "4000"})
+    private int page;
+
+    private Connection connection;
+    private PreparedStatement offsetQuery;
+    private PreparedStatement keysetQuery;
+
+    // Last row of the page before the measured one, i.e. the cursor a client would send
+    private Timestamp cursorCreatedAt;
+    private long cursorId;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:history;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop all objects");
+            statement.execute(SCHEMA);
+        }
+        seed();
+
+        offsetQuery = connection.prepareStatement(OFFSET_PAGE);
+        keysetQuery = connection.prepareStatement(KEYSET_PAGE);
+
+        // The first page has no cursor; start it after a row newer than any seeded one
+        cursorCreatedAt = Timestamp.valueOf(LocalDateTime.now().plusYears(1));
+        cursorId = Long.MAX_VALUE;
+        if (page > 1) {
+            try (PreparedStatement statement = connection.prepareStatement(OFFSET_PAGE)) {
+                statement.setString(1, USER);
+                statement.setInt(2, 1);
+                statement.setInt(3, (page - 1) * PAGE_SIZE - 1);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    cursorId = resultSet.getLong("id");
+                    cursorCreatedAt = resultSet.getTimestamp("created_at");
+                }
+            }
+        }
+    }
+
+    private void seed() throws SQLException {
+        connection.setAutoCommit(false);
+        LocalDateTime start = LocalDateTime.of(2020, 1, 1, 0, 0);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into conversions (conversion_id, youtube_playlist_url, spotify_user_id, status, "
+                        + "total_tracks, matched_tracks, skipped_tracks, created_at, completed_at) "
+                        + "values (?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < rows; i++) {
+                // A few rows share a timestamp so the id tie-breaker is exercised
+                Timestamp createdAt = Timestamp.valueOf(start.plusSeconds(i / 3));
+                insert.setString(1, "conversion-" + i);
+                insert.setString(2, "https://www.youtube.com/playlist?list=PL" + i);
+                insert.setString(3, "user" + (i % USERS));
+                insert.setString(4, "COMPLETED");
+                insert.setInt(5, 50);
+                insert.setInt(6, 45);
+                insert.setInt(7, 5);
+                insert.setTimestamp(8, createdAt);
+                insert.setTimestamp(9, createdAt);
+                insert.addBatch();
+                if (i % 10_000 == 9_999) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("analyze");
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop all objects");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void offsetPage(Blackhole blackhole) throws SQLException {
+        offsetQuery.setString(1, USER);
+        offsetQuery.setInt(2, PAGE_SIZE);
+        offsetQuery.setInt(3, (page - 1) * PAGE_SIZE);
+        consume(offsetQuery, blackhole);
+    }
+
+    @Benchmark
+    public void keysetPage(Blackhole blackhole) throws SQLException {
+        keysetQuery.setString(1, USER);
+        keysetQuery.setTimestamp(2, cursorCreatedAt);
+        keysetQuery.setTimestamp(3, cursorCreatedAt);
+        keysetQuery.setLong(4, cursorId);
+        keysetQuery.setInt(5, PAGE_SIZE);
+        consume(keysetQuery, blackhole);
+    }
+
+    private static void consume(PreparedStatement query, Blackhole blackhole) throws SQLException {
+        try (ResultSet resultSet = query.executeQuery()) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getLong(1));
+                blackhole.consume(resultSet.getString(2));
+            }
+        }
+    }
+}
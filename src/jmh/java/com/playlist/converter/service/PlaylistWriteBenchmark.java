@@ -0,0 +1,245 @@
+package com.playlist.converter.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Wall-clock time of adding {@link #tracks} tracks to an empty playlist, batches posted one at a time vs
+ * several in flight ({@code app.spotify.playlist.write-concurrency}). Spotify is simulated with
+ * {@link #LATENCY_MS} ms per request and a write is applied at a random point of it, so concurrent appends
+ * land shuffled and are read back and moved into order. The {@code requests} counter is the number of
+ * requests one add makes.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PlaylistWriteBenchmark {
+
+    static final long LATENCY_MS = 40;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final BodyInserter.Context INSERTER_CONTEXT = new BodyInserter.Context() {
+        @Override
+        public List<HttpMessageWriter<?>> messageWriters() {
+            return ExchangeStrategies.withDefaults().messageWriters();
+        }
+
+        @Override
+        public Optional<ServerHttpRequest> serverRequest() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Map<String, Object> hints() {
+            return Map.of();
+        }
+    };
+
+    @Param({"1", "4"})
+    private int writeConcurrency;
+
+    @Param({"300", "1000", "2000"})
+    private int tracks;
+
+    private final List<String> playlist = new ArrayList<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private SpotifyService spotifyService;
+    private List<String> trackUris;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Requests {
+        public int requests;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            requests = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        WebClient webClient = WebClient.builder().exchangeFunction(this::exchange).build();
+        spotifyService = new SpotifyService(webClient, new SimpleMeterRegistry(), 5, 0.3, "", writeConcurrency, 3);
+        trackUris = new ArrayList<>();
+        for (int i = 0; i < tracks; i++) {
+            trackUris.add("spotify:track:" + i);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void emptyPlaylist() {
+        synchronized (playlist) {
+            playlist.clear();
+        }
+        requests.set(0);
+    }
+
+    @Benchmark
+    public SpotifyService.PlaylistAppend addTracks(Requests counter) {
+        SpotifyService.PlaylistAppend result = spotifyService.addTracksToPlaylistReactive("p1", trackUris, "token").block();
+        counter.requests = requests.get();
+        return result;
+    }
+
+    private Mono<ClientResponse> exchange(ClientRequest request) {
+        requests.incrementAndGet();
+        long appliedAfter = ThreadLocalRandom.current().nextLong(LATENCY_MS + 1);
+        return body(request)
+                .delayElement(Duration.ofMillis(appliedAfter))
+                .map(body -> apply(request, body))
+                .delayElement(Duration.ofMillis(LATENCY_MS - appliedAfter));
+    }
+
+    private ClientResponse apply(ClientRequest request, JsonNode body) {
+        String json = "{\"snapshot_id\":\"s\"}";
+        synchronized (playlist) {
+            if (request.method() == HttpMethod.POST) {
+                body.get("uris").forEach(uri -> playlist.add(uri.asText()));
+            } else if (request.method() == HttpMethod.PUT) {
+                int start = body.get("range_start").asInt();
+                int length = body.get("range_length").asInt();
+                int insertBefore = body.get("insert_before").asInt();
+                List<String> range = new ArrayList<>(playlist.subList(start, start + length));
+                playlist.subList(start, start + length).clear();
+                playlist.addAll(insertBefore > start ? insertBefore - length : insertBefore, range);
+            } else {
+                MultiValueMap<String, String> params = UriComponentsBuilder.fromUri(request.url()).build().getQueryParams();
+                if (params.containsKey("offset")) {
+                    int offset = Integer.parseInt(params.getFirst("offset"));
+                    int end = Math.min(offset + Integer.parseInt(params.getFirst("limit")), playlist.size());
+                    List<String> items = new ArrayList<>();
+                    for (String uri : playlist.subList(Math.min(offset, end), end)) {
+                        items.add("{\"track\":{\"uri\":\"" + uri + "\"}}");
+                    }
+                    json = "{\"items\":[" + String.join(",", items) + "]}";
+                } else {
+                    json = "{\"snapshot_id\":\"s\",\"tracks\":{\"total\":" + playlist.size() + "}}";
+                }
+            }
+        }
+        return ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(json)
+                .build();
+    }
+
+    /**
+     * The JSON body of a request, or an empty object for a GET
+     */
+    private static Mono<JsonNode> body(ClientRequest request) {
+        // Written into a capturing request, as the connector would write it to the socket
+        BodyCapture capture = new BodyCapture();
+        return request.body().insert(capture, INSERTER_CONTEXT)
+                .then(Mono.fromSupplier(() -> {
+                    try {
+                        return MAPPER.readTree(capture.body.isEmpty() ? "{}" : capture.body.toString());
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }));
+    }
+
+    private static class BodyCapture implements ClientHttpRequest {
+
+        private final HttpHeaders headers = new HttpHeaders();
+        private final StringBuilder body = new StringBuilder();
+
+        @Override
+        public HttpMethod getMethod() {
+            return HttpMethod.GET;
+        }
+
+        @Override
+        public URI getURI() {
+            return URI.create("/");
+        }
+
+        @Override
+        public MultiValueMap<String, HttpCookie> getCookies() {
+            return new LinkedMultiValueMap<>();
+        }
+
+        @Override
+        public <T> T getNativeRequest() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public DataBufferFactory bufferFactory() {
+            return DefaultDataBufferFactory.sharedInstance;
+        }
+
+        @Override
+        public void beforeCommit(Supplier<? extends Mono<Void>> action) {
+        }
+
+        @Override
+        public boolean isCommitted() {
+            return false;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return Flux.from(body)
+                    .doOnNext(buffer -> this.body.append(buffer.toString(StandardCharsets.UTF_8)))
+                    .then();
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return writeWith(Flux.from(body).concatMap(Flux::from));
+        }
+
+        @Override
+        public Mono<Void> setComplete() {
+            return Mono.empty();
+        }
+    }
+}
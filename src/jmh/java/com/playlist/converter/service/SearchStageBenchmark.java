@@ -0,0 +1,73 @@
+package com.playlist.converter.service;
+
+import com.playlist.converter.model.Track;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wall-clock time of the search stage for a playlist of {@link #TRACK_COUNT} tracks, sequential vs with
+ * several searches in flight. Each Spotify search is simulated as a blocking call of
+ * {@link #SEARCH_LATENCY_MS} ms and the match cache always misses.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SearchStageBenchmark {
+
+    static final int TRACK_COUNT = 40;
+    static final long SEARCH_LATENCY_MS = 20;
+
+    @Param({"1", "8"})
+    private int searchConcurrency;
+
+    private ConversionService conversionService;
+    private List<Track> tracks;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SpotifyService spotifyService = new SpotifyService(null, meterRegistry, 5, 0.3, "", 4, 3) {
+            @Override
+            public Track searchTrack(String query, Long expectedDurationMs, String accessToken) {
+                try {
+                    Thread.sleep(SEARCH_LATENCY_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return Track.fromSpotify("id", query, "Artist", "Album", 1000L, "url");
+            }
+        };
+        TrackMatchCache trackMatchCache = new TrackMatchCache(null, meterRegistry, 1, 1, 1) {
+            @Override
+            public CachedMatch get(String videoId) {
+                return null;
+            }
+
+            @Override
+            public void put(String videoId, Track spotifyTrack) {
+            }
+        };
+        conversionService = new ConversionService(new YouTubeService(null, "benchmark", false), spotifyService,
+                null, null, trackMatchCache, null, null, null, null, null, new ConversionDeadlines(10), null,
+                Schedulers.boundedElastic(), searchConcurrency, 64, "blocking", 10_000, "incremental");
+
+        tracks = new ArrayList<>();
+        for (int i = 0; i < TRACK_COUNT; i++) {
+            tracks.add(Track.fromYouTube("video" + i, "Song " + i + " (Official Video)"));
+        }
+    }
+
+    @Benchmark
+    public void matchTracks(Blackhole blackhole) {
+        blackhole.consume(conversionService.matchTracks(tracks, "token"));
+    }
+}
@@ -0,0 +1,58 @@
+package com.playlist.converter.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playlist.converter.dto.spotify.SpotifySearchResponse;
+import com.playlist.converter.model.Track;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding a Spotify search response into a Track: the former JsonNode tree path against the
+ * typed projection SpotifyService.searchTrack now uses. Compare ns/op and gc.alloc.rate.norm.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpotifyJsonBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private byte[] searchResponse;
+
+    @Setup
+    public void setUp() {
+        searchResponse = TitleCorpus.SPOTIFY_SEARCH_RESPONSE.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Bytes to JsonNode tree (what bodyToMono(JsonNode.class) did) plus field extraction
+     */
+    @Benchmark
+    public Track decodeTree() throws IOException {
+        JsonNode track = objectMapper.readTree(searchResponse).get("tracks").get("items").get(0);
+        return Track.fromSpotify(
+                track.get("id").asText(),
+                track.get("name").asText(),
+                track.get("artists").get(0).get("name").asText(),
+                track.get("album").get("name").asText(),
+                track.get("duration_ms").asLong(),
+                track.get("external_urls").get("spotify").asText()
+        );
+    }
+
+    /**
+     * Bytes straight into the projection records; unmapped subtrees are skipped, not built
+     */
+    @Benchmark
+    public Track decodeTyped() throws IOException {
+        SpotifySearchResponse response = objectMapper.readValue(searchResponse, SpotifySearchResponse.class);
+        return SpotifyService.toTrack(response.tracks().items().get(0));
+    }
+}
@@ -0,0 +1,117 @@
+package com.playlist.converter.service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Realistic YouTube video titles used by the benchmarks, grouped by shape
+ */
+final class TitleCorpus {
+
+    static final Map<String, List<String>> TITLES = Map.of(
+            "ascii", List.of(
+                    "The Weeknd - Blinding Lights (Official Video)",
+                    "Dua Lipa - Levitating [Official Music Video]",
+                    "Queen - Bohemian Rhapsody (Official Video Remastered)",
+                    "Imagine Dragons - Believer (Lyrics)",
+                    "Daft Punk - Get Lucky (Official Audio) ft. Pharrell Williams",
+                    "Coldplay - Yellow [HD]",
+                    "Linkin Park - Numb (Official Music Video) [4K UPGRADE]",
+                    "Arctic Monkeys - Do I Wanna Know?",
+                    "Fleetwood Mac - Dreams - Topic",
+                    "Billie Eilish - bad guy"
+            ),
+            "cjk", List.of(
+                    "米津玄師 - Lemon (Official Video)",
+                    "YOASOBI「夜に駆ける」Official Music Video",
+                    "BTS (방탄소년단) 'Dynamite' Official MV",
+                    "周杰倫 Jay Chou【告白氣球 Love Confession】Official MV",
+                    "あいみょん - マリーゴールド【OFFICIAL MUSIC VIDEO】",
+                    "IU(아이유) - 밤편지 (Through the Night) [Lyrics]",
+                    "King Gnu - 白日 (HD)",
+                    "鄧紫棋 G.E.M. - 光年之外 (Official Audio)"
+            ),
+            "emoji", List.of(
+                    "🔥 Drake - Hotline Bling (Official Video) 🔥",
+                    "✨ chill lofi beats to study to ✨ [Lyrics]",
+                    "Harry Styles - As It Was 💚 (Official Video)",
+                    "🎵 Bad Bunny - Tití Me Preguntó (Official Audio) 🎵",
+                    "Lizzo - About Damn Time 💃 [4K]",
+                    "Rosé - On The Ground 🌹 (HD)"
+            ),
+            "dj-mix", List.of(
+                    "Boiler Room London: Fred again.. b2b Four Tet b2b Skrillex (Full Set) [HD] - Live from Alexandra Palace",
+                    "Tomorrowland 2023 - Official Aftermovie | Armin van Buuren, Martin Garrix, Dimitri Vegas & Like Mike (Official Video) [4K]",
+                    "Deep House Mix 2024 | Best of Vocal Deep House, Nu Disco & Chillout - Mixed by DJ Example (Lyrics) (HD)",
+                    "Carl Cox @ Space Ibiza Closing Party 2016 - 6 Hour Marathon Techno Set [Official Audio] [HD] (Official Video)",
+                    "Anjunadeep Edition 400 with Yotto - 3 Hour Progressive House & Melodic Techno Mix - Topic"
+            )
+    );
+
+    static final List<String> PLAYLIST_URLS = List.of(
+            "https://www.youtube.com/playlist?list=PLXyAs_FpoMmQQwv6DOAC7Z4ckOD_Ct7zR",
+            "https://www.youtube.com/watch?v=dQw4w9WgXcQ&list=PLFgquLnL59alCl_2TQvOiD5Vgm1hCaGSI&index=3",
+            "https://youtu.be/dQw4w9WgXcQ?list=PL9tY0BWXOZFuFEG_GtOBZ8-8wbkH-NVAr&si=abcdef",
+            "https://www.youtube.com/playlist?list=OLAK5uy_kU2R6iG8WkGS1iZ7rGmrDfHcXZ3j0Q2zk&feature=share"
+    );
+
+    /**
+     * A Spotify /search response for a single track, as returned with limit=1
+     */
+    static final String SPOTIFY_SEARCH_RESPONSE = """
+            {"tracks":{"href":"https://api.spotify.com/v1/search?query=Blinding+Lights+The+Weeknd&type=track&offset=0&limit=1",
+            "items":[{"album":{"album_type":"album","artists":[{"external_urls":{"spotify":"https://open.spotify.com/artist/1Xyo4u8uXC1ZmMpatF05PJ"},
+            "href":"https://api.spotify.com/v1/artists/1Xyo4u8uXC1ZmMpatF05PJ","id":"1Xyo4u8uXC1ZmMpatF05PJ","name":"The Weeknd","type":"artist",
+            "uri":"spotify:artist:1Xyo4u8uXC1ZmMpatF05PJ"}],"available_markets":["AR","AU","AT","BE","BO","BR","BG","CA","CL","CO","CR","CY","CZ","DK",
+            "DO","DE","EC","EE","SV","FI","FR","GR","GT","HN","HK","HU","IS","IE","IT","LV","LT","LU","MY","MT","MX","NL","NZ","NI","NO","PA","PY","PE",
+            "PH","PL","PT","SG","SK","ES","SE","CH","TW","TR","UY","US","GB","AD","LI","MC","ID","JP","TH","VN","RO","IL","ZA","SA","AE","BH","QA","OM",
+            "KW","EG","MA","DZ","TN","LB","JO","PS","IN","BY","KZ","MD","UA","AL","BA","HR","ME","MK","RS","SI","KR","BD","PK","LK","GH","KE","NG","TZ",
+            "UG","AG","AM","BS","BB","BZ","BT","BW","BF","CV","CW","DM","FJ","GM","GE","GD","GW","GY","HT","JM","KI","LS","LR","MW","MV","ML","MH","FM",
+            "NA","NR","NE","PW","PG","WS","SM","ST","SN","SC","SL","SB","KN","LC","VC","SR","TL","TO","TT","TV","VU","AZ","BN","BI","KH","CM","TD","KM",
+            "GQ","SZ","GA","GN","KG","LA","MO","MR","MN","NP","RW","TG","UZ","ZW","BJ","MG","MU","MZ","AO","CI","DJ","ZM","CD","CG","IQ","LY","TJ","VE",
+            "ET","XK"],"external_urls":{"spotify":"https://open.spotify.com/album/4yP0hdKOZPNshxUOjY0cZj"},"href":"https://api.spotify.com/v1/albums/4yP0hdKOZPNshxUOjY0cZj",
+            "id":"4yP0hdKOZPNshxUOjY0cZj","images":[{"height":640,"url":"https://i.scdn.co/image/ab67616d0000b2738863bc11d2aa12b54f5aeb36","width":640},
+            {"height":300,"url":"https://i.scdn.co/image/ab67616d00001e028863bc11d2aa12b54f5aeb36","width":300},
+            {"height":64,"url":"https://i.scdn.co/image/ab67616d000048518863bc11d2aa12b54f5aeb36","width":64}],"name":"After Hours",
+            "release_date":"2020-03-20","release_date_precision":"day","total_tracks":14,"type":"album","uri":"spotify:album:4yP0hdKOZPNshxUOjY0cZj"},
+            "artists":[{"external_urls":{"spotify":"https://open.spotify.com/artist/1Xyo4u8uXC1ZmMpatF05PJ"},"href":"https://api.spotify.com/v1/artists/1Xyo4u8uXC1ZmMpatF05PJ",
+            "id":"1Xyo4u8uXC1ZmMpatF05PJ","name":"The Weeknd","type":"artist","uri":"spotify:artist:1Xyo4u8uXC1ZmMpatF05PJ"}],"disc_number":1,
+            "duration_ms":200040,"explicit":false,"external_ids":{"isrc":"USUG11904206"},"external_urls":{"spotify":"https://open.spotify.com/track/0VjIjW4GlUZAMYd2vXMi3b"},
+            "href":"https://api.spotify.com/v1/tracks/0VjIjW4GlUZAMYd2vXMi3b","id":"0VjIjW4GlUZAMYd2vXMi3b","is_local":false,"name":"Blinding Lights",
+            "popularity":91,"preview_url":null,"track_number":9,"type":"track","uri":"spotify:track:0VjIjW4GlUZAMYd2vXMi3b"}],
+            "limit":1,"next":"https://api.spotify.com/v1/search?query=Blinding+Lights+The+Weeknd&type=track&offset=1&limit=1","offset":0,"previous":null,"total":812}}
+            """;
+
+    /**
+     * A full 50-item YouTube /playlistItems?part=snippet page, built from the ascii titles
+     */
+    static String playlistItemsPage() {
+        StringBuilder page = new StringBuilder("""
+                {"kind":"youtube#playlistItemListResponse","etag":"x8GbQd3l1Ck1dVkn0yEGn5Jd7nY",
+                "nextPageToken":"EAAaBlBUOkNESQ","items":[""");
+        List<String> titles = TITLES.get("ascii");
+        for (int i = 0; i < 50; i++) {
+            String videoId = String.format("vid%08d", i);
+            if (i > 0) {
+                page.append(',');
+            }
+            page.append("""
+                    {"kind":"youtube#playlistItem","etag":"etag%1$d","id":"UExYeUFzX0Zwb01tUVF3djZET0FDN1o0Y2tPRF9DdDd6Ui4%1$d",
+                    "snippet":{"publishedAt":"2023-05-14T09:21:33Z","channelId":"UC-lHJZR3Gqxm24_Vd_AJ5Yw",
+                    "title":"%2$s","description":"Listen to the full album on all platforms. Follow on Instagram, TikTok
+                    and Twitter for tour dates, merch and behind the scenes. Lyrics, credits and production notes below.",
+                    "thumbnails":{"default":{"url":"https://i.ytimg.com/vi/%3$s/default.jpg","width":120,"height":90},
+                    "medium":{"url":"https://i.ytimg.com/vi/%3$s/mqdefault.jpg","width":320,"height":180},
+                    "high":{"url":"https://i.ytimg.com/vi/%3$s/hqdefault.jpg","width":480,"height":360},
+                    "standard":{"url":"https://i.ytimg.com/vi/%3$s/sddefault.jpg","width":640,"height":480},
+                    "maxres":{"url":"https://i.ytimg.com/vi/%3$s/maxresdefault.jpg","width":1280,"height":720}},
+                    "channelTitle":"Playlist Owner","playlistId":"PLXyAs_FpoMmQQwv6DOAC7Z4ckOD_Ct7zR","position":%1$d,
+                    "resourceId":{"kind":"youtube#video","videoId":"%3$s"},"videoOwnerChannelTitle":"Artist VEVO",
+                    "videoOwnerChannelId":"UComP_epzeKzvBX156r6pm1Q"}}""".replace("\n", " ")
+                    .formatted(i, titles.get(i % titles.size()), videoId));
+        }
+        return page.append("],\"pageInfo\":{\"totalResults\":250,\"resultsPerPage\":50}}").toString();
+    }
+
+    private TitleCorpus() {}
+}
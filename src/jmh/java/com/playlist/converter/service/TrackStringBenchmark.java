@@ -0,0 +1,61 @@
+package com.playlist.converter.service;
+
+import com.playlist.converter.dto.ConversionRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-track string work: title cleaning, search query preparation and playlist ID extraction.
+ * Each invocation processes the whole corpus, so divide ns/op and B/op by the corpus size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TrackStringBenchmark {
+
+    @Param({"ascii", "cjk", "emoji", "dj-mix"})
+    private String corpus;
+
+    private List<String> titles;
+    private List<ConversionRequest> requests;
+    private YouTubeService youTubeService;
+    private SpotifyService spotifyService;
+
+    @Setup
+    public void setUp() {
+        titles = TitleCorpus.TITLES.get(corpus);
+        requests = TitleCorpus.PLAYLIST_URLS.stream()
+                .map(url -> new ConversionRequest(url, "user", null, null, null))
+                .toList();
+        youTubeService = new YouTubeService(null, "benchmark", false);
+        spotifyService = new SpotifyService(null, new SimpleMeterRegistry(), 5, 0.3, "", 4, 3);
+    }
+
+    @Benchmark
+    public void cleanVideoTitle(Blackhole blackhole) {
+        for (String title : titles) {
+            blackhole.consume(youTubeService.cleanVideoTitle(title));
+        }
+    }
+
+    @Benchmark
+    public void cleanAndPrepareSearchQuery(Blackhole blackhole) {
+        for (String title : titles) {
+            blackhole.consume(spotifyService.prepareSearchQuery(youTubeService.cleanVideoTitle(title)));
+        }
+    }
+
+    @Benchmark
+    public void extractPlaylistId(Blackhole blackhole) {
+        for (ConversionRequest request : requests) {
+            blackhole.consume(request.extractPlaylistId());
+        }
+    }
+}
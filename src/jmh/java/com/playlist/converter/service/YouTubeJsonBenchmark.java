@@ -0,0 +1,54 @@
+package com.playlist.converter.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playlist.converter.dto.youtube.YouTubePlaylistItemListResponse;
+import com.playlist.converter.model.Track;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding a 50-item YouTube playlistItems page: JsonNode tree against the typed projection.
+ * Each invocation decodes one page, so divide by 50 for the per-track cost.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class YouTubeJsonBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private byte[] page;
+
+    @Setup
+    public void setUp() {
+        page = TitleCorpus.playlistItemsPage().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public void decodeTree(Blackhole blackhole) throws IOException {
+        JsonNode response = objectMapper.readTree(page);
+        for (JsonNode item : response.get("items")) {
+            JsonNode snippet = item.get("snippet");
+            blackhole.consume(Track.fromYouTube(snippet.get("resourceId").get("videoId").asText(),
+                    snippet.get("title").asText()));
+        }
+        blackhole.consume(response.get("nextPageToken").asText());
+    }
+
+    @Benchmark
+    public void decodeTyped(Blackhole blackhole) throws IOException {
+        YouTubePlaylistItemListResponse response = objectMapper.readValue(page, YouTubePlaylistItemListResponse.class);
+        for (YouTubePlaylistItemListResponse.Item item : response.items()) {
+            blackhole.consume(Track.fromYouTube(item.snippet().resourceId().videoId(), item.snippet().title()));
+        }
+        blackhole.consume(response.nextPageToken());
+    }
+}
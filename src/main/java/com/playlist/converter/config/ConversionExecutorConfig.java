@@ -0,0 +1,66 @@
+package com.playlist.converter.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Configuration for the threads conversions and their Spotify searches run on.
+ *
+ * {@code app.conversion.executor-mode=platform} (default) uses platform worker threads and Reactor's
+ * bounded elastic scheduler. {@code virtual} runs each conversion and each per-track search on a virtual
+ * thread, which makes a blocked WebClient call cost a few KB of heap instead of a platform thread; it
+ * requires a Java 21+ runtime. In both modes the number of workers and of concurrent searches stays bounded.
+ */
+@Configuration
+public class ConversionExecutorConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ConversionExecutorConfig.class);
+
+    @Value("${app.conversion.executor-mode:platform}")
+    private String executorMode;
+
+    /**
+     * Thread factory for conversion worker threads
+     */
+    @Bean("conversionThreadFactory")
+    public ThreadFactory conversionThreadFactory() {
+        if (isVirtual()) {
+            log.info("Conversions run on virtual threads");
+            return virtualThreads("conversion-worker-").getVirtualThreadFactory();
+        }
+        return new CustomizableThreadFactory("conversion-worker-");
+    }
+
+    /**
+     * Scheduler for the blocking per-track Spotify searches
+     */
+    @Bean("trackSearchScheduler")
+    public Scheduler trackSearchScheduler() {
+        if (isVirtual()) {
+            return Schedulers.fromExecutor(virtualThreads("track-search-"));
+        }
+        return Schedulers.boundedElastic();
+    }
+
+    private boolean isVirtual() {
+        return "virtual".equalsIgnoreCase(executorMode);
+    }
+
+    private VirtualThreadTaskExecutor virtualThreads(String threadNamePrefix) {
+        try {
+            return new VirtualThreadTaskExecutor(threadNamePrefix);
+        } catch (UnsupportedOperationException e) {
+            throw new IllegalStateException(
+                    "app.conversion.executor-mode=virtual requires a Java 21+ runtime", e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.playlist.converter.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background tasks such as progress flushing
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
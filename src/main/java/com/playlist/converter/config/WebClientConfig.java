@@ -1,12 +1,27 @@
 package com.playlist.converter.config;
 
+import com.playlist.converter.service.SpotifyRateGovernor;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 /**
- * Configuration for WebClient beans used for external API calls
+ * Configuration for WebClient beans used for external API calls.
+ *
+ * Each upstream gets its own named connection pool, so a slow Spotify cannot use up the connections
+ * YouTube calls need. Pools are sized and timed out through {@code app.http.<upstream>.*} and publish
+ * {@code reactor.netty.connection.provider.*} metrics (tag {@code name=<upstream>}) to Actuator.
  */
 @Configuration
 public class WebClientConfig {
@@ -17,13 +32,17 @@ public class WebClientConfig {
     @Value("${spotify.api.base-url}")
     private String spotifyApiBaseUrl;
     
+    @Autowired
+    private Environment environment;
+    
     /**
      * WebClient for YouTube Data API
      */
     @Bean("youtubeWebClient")
-    public WebClient youtubeWebClient() {
+    public WebClient youtubeWebClient(@Qualifier("youtubeConnectionProvider") ConnectionProvider connectionProvider) {
         return WebClient.builder()
                 .baseUrl(youtubeApiBaseUrl)
+                .clientConnector(connector("youtube", connectionProvider))
                 .defaultHeader("Accept", "application/json")
                 .defaultHeader("Content-Type", "application/json")
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(1024 * 1024)) // 1MB
@@ -31,12 +50,15 @@ public class WebClientConfig {
     }
     
     /**
-     * WebClient for Spotify Web API
+     * WebClient for Spotify Web API; all requests go through the shared rate governor
      */
     @Bean("spotifyWebClient")
-    public WebClient spotifyWebClient() {
+    public WebClient spotifyWebClient(@Qualifier("spotifyConnectionProvider") ConnectionProvider connectionProvider,
+                                      SpotifyRateGovernor rateGovernor) {
         return WebClient.builder()
                 .baseUrl(spotifyApiBaseUrl)
+                .clientConnector(connector("spotify", connectionProvider))
+                .filter(rateGovernor)
                 .defaultHeader("Accept", "application/json")
                 .defaultHeader("Content-Type", "application/json")
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(2 * 1024 * 1024)) // 2MB
@@ -47,11 +69,61 @@ public class WebClientConfig {
      * General purpose WebClient
      */
     @Bean("generalWebClient")
-    public WebClient generalWebClient() {
+    public WebClient generalWebClient(@Qualifier("generalConnectionProvider") ConnectionProvider connectionProvider) {
         return WebClient.builder()
+                .clientConnector(connector("general", connectionProvider))
                 .defaultHeader("Accept", "application/json")
                 .defaultHeader("Content-Type", "application/json")
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(5 * 1024 * 1024)) // 5MB
                 .build();
     }
+    
+    @Bean(name = "youtubeConnectionProvider", destroyMethod = "dispose")
+    public ConnectionProvider youtubeConnectionProvider() {
+        return connectionProvider("youtube", 20);
+    }
+    
+    @Bean(name = "spotifyConnectionProvider", destroyMethod = "dispose")
+    public ConnectionProvider spotifyConnectionProvider() {
+        return connectionProvider("spotify", 64);
+    }
+    
+    @Bean(name = "generalConnectionProvider", destroyMethod = "dispose")
+    public ConnectionProvider generalConnectionProvider() {
+        return connectionProvider("general", 20);
+    }
+    
+    /**
+     * Named, bounded pool with idle eviction and Micrometer metrics
+     */
+    private ConnectionProvider connectionProvider(String upstream, int defaultMaxConnections) {
+        int maxConnections = property(upstream, "max-connections", Integer.class, defaultMaxConnections);
+        return ConnectionProvider.builder(upstream)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(property(upstream, "pending-acquire-max-count", Integer.class, maxConnections * 4))
+                .pendingAcquireTimeout(Duration.ofMillis(property(upstream, "pending-acquire-timeout-ms", Long.class, 10_000L)))
+                .maxIdleTime(Duration.ofMillis(property(upstream, "max-idle-time-ms", Long.class, 30_000L)))
+                .maxLifeTime(Duration.ofMillis(property(upstream, "max-life-time-ms", Long.class, 300_000L)))
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+    }
+    
+    /**
+     * HTTP client on the given pool: keep-alive, HTTP/2 negotiated over TLS with HTTP/1.1 fallback,
+     * and connect/response timeouts
+     */
+    private ReactorClientHttpConnector connector(String upstream, ConnectionProvider connectionProvider) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .protocol(HttpProtocol.H2, HttpProtocol.HTTP11)
+                .keepAlive(true)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, property(upstream, "connect-timeout-ms", Integer.class, 5_000))
+                .responseTimeout(Duration.ofMillis(property(upstream, "response-timeout-ms", Long.class, 30_000L)));
+        return new ReactorClientHttpConnector(httpClient);
+    }
+    
+    private <T> T property(String upstream, String key, Class<T> type, T defaultValue) {
+        return environment.getProperty("app.http." + upstream + "." + key, type, defaultValue);
+    }
 }
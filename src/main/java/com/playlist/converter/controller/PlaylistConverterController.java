@@ -1,7 +1,10 @@
 package com.playlist.converter.controller;
 
+import com.playlist.converter.dto.ConversionPage;
+import com.playlist.converter.dto.ConversionProgressEvent;
 import com.playlist.converter.dto.ConversionRequest;
 import com.playlist.converter.dto.ConversionResponse;
+import com.playlist.converter.dto.TrackNamePage;
 import com.playlist.converter.model.ConversionResult;
 import com.playlist.converter.service.ConversionService;
 import com.playlist.converter.service.OAuth2TokenService;
@@ -12,12 +15,15 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.time.Duration;
 
 /**
  * REST Controller for playlist conversion operations
@@ -29,6 +35,8 @@ public class PlaylistConverterController {
     
     private static final Logger log = LoggerFactory.getLogger(PlaylistConverterController.class);
     
+    private static final Duration SSE_HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+    
     private final ConversionService conversionService;
     private final OAuth2TokenService oAuth2TokenService;
     
@@ -47,52 +55,45 @@ public class PlaylistConverterController {
             @Valid @RequestBody ConversionRequest request,
             Authentication authentication) {
         
-        try {
-            log.info("Received conversion request for YouTube playlist: {}", request.getYoutubePlaylistUrl());
-            
-            // Validate authentication and token
-            String currentUserId = oAuth2TokenService.getCurrentSpotifyUserId();
-            if (currentUserId == null) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                        .body(ConversionResponse.withMessage("User not authenticated with Spotify"));
-            }
-            
-            // Resolve the actual user ID (handle "current_user" case)
-            String requestedUserId = "current_user".equals(request.getSpotifyUserId()) 
-                    ? currentUserId 
-                    : request.getSpotifyUserId();
-            
-            // Check if user has valid token
-            if (!oAuth2TokenService.hasValidToken(requestedUserId)) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                        .body(ConversionResponse.withMessage("No valid Spotify access token found. Please login again."));
-            }
-            
-            // Ensure the authenticated user matches the request
-            if (!currentUserId.equals(requestedUserId)) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN)
-                        .body(ConversionResponse.withMessage("Cannot convert playlist for a different user"));
-            }
-            
-            // Initiate conversion with resolved user ID
-            ConversionRequest resolvedRequest = new ConversionRequest(
-                request.getYoutubePlaylistUrl(),
-                requestedUserId,
-                request.getPlaylistName(),
-                request.getPlaylistDescription(),
-                request.getIsPublic()
-            );
-            String conversionId = conversionService.initiateConversion(resolvedRequest);
-            
-            log.info("Conversion initiated with ID: {}", conversionId);
-            
-            return ResponseEntity.ok(ConversionResponse.initiated(conversionId));
-            
-        } catch (Exception e) {
-            log.error("Error initiating conversion: {}", e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ConversionResponse.error("Failed to initiate conversion: " + e.getMessage()));
+        log.info("Received conversion request for YouTube playlist: {}", request.getYoutubePlaylistUrl());
+        
+        // Validate authentication and token
+        String currentUserId = oAuth2TokenService.getCurrentSpotifyUserId();
+        if (currentUserId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ConversionResponse.withMessage("User not authenticated with Spotify"));
+        }
+        
+        // Resolve the actual user ID (handle "current_user" case)
+        String requestedUserId = "current_user".equals(request.getSpotifyUserId()) 
+                ? currentUserId 
+                : request.getSpotifyUserId();
+        
+        // Check if user has valid token
+        if (!oAuth2TokenService.hasValidToken(requestedUserId)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ConversionResponse.withMessage("No valid Spotify access token found. Please login again."));
         }
+        
+        // Ensure the authenticated user matches the request
+        if (!currentUserId.equals(requestedUserId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(ConversionResponse.withMessage("Cannot convert playlist for a different user"));
+        }
+        
+        // Initiate conversion with resolved user ID
+        ConversionRequest resolvedRequest = new ConversionRequest(
+            request.getYoutubePlaylistUrl(),
+            requestedUserId,
+            request.getPlaylistName(),
+            request.getPlaylistDescription(),
+            request.getIsPublic()
+        );
+        String conversionId = conversionService.initiateConversion(resolvedRequest);
+        
+        log.info("Conversion initiated with ID: {}", conversionId);
+        
+        return ResponseEntity.ok(ConversionResponse.initiated(conversionId));
     }
     
     /**
@@ -139,12 +140,47 @@ public class PlaylistConverterController {
     }
     
     /**
-     * Get all conversions for the current user
+     * Stream the progress of a conversion as Server-Sent Events
+     */
+    @GetMapping(value = "/status/{conversionId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream conversion progress", 
+               description = "Pushes progress events (status changes, tracks processed, latest match) until the conversion completes or fails")
+    public ResponseEntity<Flux<ServerSentEvent<ConversionProgressEvent>>> streamConversionStatus(
+            @Parameter(description = "Conversion ID") @PathVariable String conversionId) {
+        
+        Flux<ConversionProgressEvent> events = conversionService.streamProgress(conversionId);
+        if (events == null) {
+            return ResponseEntity.notFound().build();
+        }
+        
+        Flux<ServerSentEvent<ConversionProgressEvent>> progress = events
+                // Slow clients skip intermediate progress; the terminal event is always last and kept
+                .onBackpressureLatest()
+                .publishOn(Schedulers.boundedElastic(), 1)
+                .map(event -> ServerSentEvent.builder(event)
+                        .event(event.isTerminal() ? "done" : "progress")
+                        .build());
+        
+        // Comments keep idle connections open through proxies until the conversion ends
+        Flux<ServerSentEvent<ConversionProgressEvent>> heartbeats = Flux.interval(SSE_HEARTBEAT_INTERVAL)
+                .map(tick -> ServerSentEvent.<ConversionProgressEvent>builder().comment("keep-alive").build())
+                .takeUntilOther(events.ignoreElements());
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .body(progress.mergeWith(heartbeats));
+    }
+    
+    /**
+     * Get the conversions of the current user, newest first
      */
     @GetMapping("/conversions")
     @Operation(summary = "Get user conversions", 
-               description = "Retrieves all playlist conversions for the current user")
-    public ResponseEntity<?> getUserConversions(Authentication authentication) {
+               description = "Retrieves summaries of the current user's playlist conversions, a page at a time; track names are available per conversion")
+    public ResponseEntity<?> getUserConversions(
+            @Parameter(description = "nextCursor of the previous page; omit for the newest conversions") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of conversions (1-100)") @RequestParam(defaultValue = "20") int limit,
+            Authentication authentication) {
         
         try {
             String currentUserId = oAuth2TokenService.getCurrentSpotifyUserId();
@@ -153,14 +189,12 @@ public class PlaylistConverterController {
                         .body("User not authenticated with Spotify");
             }
             
-            List<ConversionResult> conversions = conversionService.getUserConversions(currentUserId);
-            
-            List<ConversionResponse> responses = conversions.stream()
-                    .map(ConversionResponse::fromEntity)
-                    .collect(Collectors.toList());
+            ConversionPage page = conversionService.getUserConversionPage(currentUserId, cursor, limit);
             
-            return ResponseEntity.ok(responses);
+            return ResponseEntity.ok(page);
             
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
             log.error("Error getting user conversions: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -168,6 +202,114 @@ public class PlaylistConverterController {
         }
     }
     
+    /**
+     * Resume a failed conversion from its last checkpoint
+     */
+    @PostMapping("/conversions/{conversionId}/resume")
+    @Operation(summary = "Resume a failed conversion", 
+               description = "Re-runs a failed conversion, skipping tracks already searched and tracks already added to its Spotify playlist")
+    public ResponseEntity<ConversionResponse> resumeConversion(
+            @Parameter(description = "Conversion ID") @PathVariable String conversionId) {
+        
+        String currentUserId = oAuth2TokenService.getCurrentSpotifyUserId();
+        if (currentUserId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ConversionResponse.withMessage("User not authenticated with Spotify"));
+        }
+        
+        ConversionResult conversion;
+        try {
+            conversion = conversionService.getConversionStatus(conversionId);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ConversionResponse.withMessage("Conversion not found: " + conversionId));
+        }
+        if (!currentUserId.equals(conversion.getSpotifyUserId())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(ConversionResponse.withMessage("Cannot resume a conversion of a different user"));
+        }
+        
+        try {
+            conversionService.resumeConversion(conversion);
+            
+            ConversionResponse response = ConversionResponse.fromEntity(conversion);
+            response.setMessage("Conversion resumed. Use the conversionId to track progress.");
+            return ResponseEntity.ok(response);
+            
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ConversionResponse.withMessage(e.getMessage()));
+        }
+    }
+    
+    /**
+     * Sync a converted playlist with the current content of its YouTube playlist
+     */
+    @PostMapping("/conversions/{conversionId}/sync")
+    @Operation(summary = "Sync a converted playlist", 
+               description = "Starts a sync run that searches only videos added to the YouTube playlist since it was converted or last synced, adds their matches to the Spotify playlist and removes tracks of videos no longer in it")
+    public ResponseEntity<ConversionResponse> syncConversion(
+            @Parameter(description = "ID of a completed conversion or sync") @PathVariable String conversionId) {
+        
+        String currentUserId = oAuth2TokenService.getCurrentSpotifyUserId();
+        if (currentUserId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ConversionResponse.withMessage("User not authenticated with Spotify"));
+        }
+        
+        ConversionResult conversion;
+        try {
+            conversion = conversionService.getConversionStatus(conversionId);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ConversionResponse.withMessage("Conversion not found: " + conversionId));
+        }
+        if (!currentUserId.equals(conversion.getSpotifyUserId())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(ConversionResponse.withMessage("Cannot sync a conversion of a different user"));
+        }
+        
+        try {
+            String syncId = conversionService.syncConversion(conversion);
+            
+            ConversionResponse response = ConversionResponse.initiated(syncId);
+            response.setSyncOf(conversionId);
+            response.setMessage("Sync initiated. Use the conversionId to track progress.");
+            return ResponseEntity.ok(response);
+            
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ConversionResponse.withMessage(e.getMessage()));
+        }
+    }
+    
+    /**
+     * Get a page of the matched or skipped track names of a conversion
+     */
+    @GetMapping("/conversions/{conversionId}/tracks")
+    @Operation(summary = "Get conversion track names", 
+               description = "Pages through the matched or skipped track names of a conversion in playlist order")
+    public ResponseEntity<?> getConversionTracks(
+            @Parameter(description = "Conversion ID") @PathVariable String conversionId,
+            @Parameter(description = "matched or skipped") @RequestParam(defaultValue = "matched") String list,
+            @Parameter(description = "nextCursor of the previous page") @RequestParam(defaultValue = "0") int cursor,
+            @Parameter(description = "Maximum number of names (1-100)") @RequestParam(defaultValue = "50") int limit) {
+        
+        if (!"matched".equals(list) && !"skipped".equals(list)) {
+            return ResponseEntity.badRequest().body("list must be 'matched' or 'skipped'");
+        }
+        
+        try {
+            TrackNamePage page = conversionService.getTrackNames(conversionId, "matched".equals(list), cursor, limit);
+            return ResponseEntity.ok(page);
+            
+        } catch (RuntimeException e) {
+            log.error("Error getting tracks for conversion {}: {}", conversionId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body("Conversion not found: " + conversionId);
+        }
+    }
+    
     /**
      * Get current user information
      */
@@ -0,0 +1,13 @@
+package com.playlist.converter.dto;
+
+import java.util.List;
+
+/**
+ * A page of a user's conversion history
+ *
+ * @param nextCursor cursor for the following page, or null when this is the last one
+ */
+public record ConversionPage(
+        List<ConversionSummary> conversions,
+        String nextCursor) {
+}
@@ -0,0 +1,27 @@
+package com.playlist.converter.dto;
+
+import com.playlist.converter.model.ConversionResult;
+
+/**
+ * Progress update pushed to clients watching a conversion
+ *
+ * @param latestTrack YouTube title of the most recently processed track, if any
+ * @param latestMatch Spotify "Artist - Title" it matched, or null when it was skipped
+ */
+public record ConversionProgressEvent(
+        String conversionId,
+        ConversionResult.ConversionStatus status,
+        Integer totalTracks,
+        int tracksProcessed,
+        String latestTrack,
+        String latestMatch,
+        String message) {
+
+    /**
+     * Whether this is the last event of the conversion
+     */
+    public boolean isTerminal() {
+        return status == ConversionResult.ConversionStatus.COMPLETED
+                || status == ConversionResult.ConversionStatus.FAILED;
+    }
+}
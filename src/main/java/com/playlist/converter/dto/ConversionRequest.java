@@ -34,6 +34,13 @@ public class ConversionRequest {
      * Extracts YouTube playlist ID from the URL
      */
     public String extractPlaylistId() {
+        return extractPlaylistId(youtubePlaylistUrl);
+    }
+    
+    /**
+     * Extracts the playlist ID from a YouTube playlist URL, or null when it has none
+     */
+    public static String extractPlaylistId(String youtubePlaylistUrl) {
         if (youtubePlaylistUrl == null) {
             return null;
         }
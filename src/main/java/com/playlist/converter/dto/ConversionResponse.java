@@ -16,8 +16,14 @@ public class ConversionResponse {
     private String spotifyPlaylistUrl;
     private String message;
     private Integer totalTracks;
+    private Integer tracksProcessed;
     private Integer matchedTracks;
     private Integer skippedTracks;
+    private Integer tracksAdded;
+    private Integer tracksRemoved;
+    private Boolean playlistOutOfOrder;
+    private String syncOf;
+    private Double averageMatchConfidence;
     private List<String> matchedTrackNames;
     private List<String> skippedTrackNames;
     private String errorMessage;
@@ -55,8 +61,14 @@ public class ConversionResponse {
         response.setSpotifyPlaylistId(result.getSpotifyPlaylistId());
         response.setSpotifyPlaylistUrl(result.getSpotifyPlaylistUrl());
         response.setTotalTracks(result.getTotalTracks());
+        response.setTracksProcessed(result.getTracksProcessed());
         response.setMatchedTracks(result.getMatchedTracks());
         response.setSkippedTracks(result.getSkippedTracks());
+        response.setTracksAdded(result.getTracksAdded());
+        response.setTracksRemoved(result.getTracksRemoved());
+        response.setPlaylistOutOfOrder(result.getPlaylistOutOfOrder());
+        response.setSyncOf(result.getSyncOf());
+        response.setAverageMatchConfidence(result.getAverageMatchConfidence());
         response.setMatchedTrackNames(result.getMatchedTrackNames());
         response.setSkippedTrackNames(result.getSkippedTrackNames());
         response.setErrorMessage(result.getErrorMessage());
@@ -144,6 +156,14 @@ public class ConversionResponse {
         this.totalTracks = totalTracks;
     }
 
+    public Integer getTracksProcessed() {
+        return tracksProcessed;
+    }
+    
+    public void setTracksProcessed(Integer tracksProcessed) {
+        this.tracksProcessed = tracksProcessed;
+    }
+    
     public Integer getMatchedTracks() {
         return matchedTracks;
     }
@@ -159,6 +179,46 @@ public class ConversionResponse {
     public void setSkippedTracks(Integer skippedTracks) {
         this.skippedTracks = skippedTracks;
     }
+    
+    public Integer getTracksAdded() {
+        return tracksAdded;
+    }
+    
+    public void setTracksAdded(Integer tracksAdded) {
+        this.tracksAdded = tracksAdded;
+    }
+    
+    public Integer getTracksRemoved() {
+        return tracksRemoved;
+    }
+    
+    public void setTracksRemoved(Integer tracksRemoved) {
+        this.tracksRemoved = tracksRemoved;
+    }
+    
+    public Boolean getPlaylistOutOfOrder() {
+        return playlistOutOfOrder;
+    }
+    
+    public void setPlaylistOutOfOrder(Boolean playlistOutOfOrder) {
+        this.playlistOutOfOrder = playlistOutOfOrder;
+    }
+    
+    public String getSyncOf() {
+        return syncOf;
+    }
+    
+    public void setSyncOf(String syncOf) {
+        this.syncOf = syncOf;
+    }
+    
+    public Double getAverageMatchConfidence() {
+        return averageMatchConfidence;
+    }
+    
+    public void setAverageMatchConfidence(Double averageMatchConfidence) {
+        this.averageMatchConfidence = averageMatchConfidence;
+    }
 
     public List<String> getMatchedTrackNames() {
         return matchedTrackNames;
@@ -0,0 +1,28 @@
+package com.playlist.converter.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.playlist.converter.model.ConversionResult;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of a user's conversion history. Built directly by the repository query, so listing
+ * conversions never loads their matched/skipped track names; those are paged separately.
+ *
+ * @param id database id, only used to build the page cursor
+ */
+public record ConversionSummary(
+        @JsonIgnore Long id,
+        String conversionId,
+        String youtubePlaylistUrl,
+        ConversionResult.ConversionStatus status,
+        String spotifyPlaylistId,
+        String spotifyPlaylistUrl,
+        Integer totalTracks,
+        Integer matchedTracks,
+        Integer skippedTracks,
+        Double averageMatchConfidence,
+        String errorMessage,
+        LocalDateTime createdAt,
+        LocalDateTime completedAt) {
+}
@@ -0,0 +1,15 @@
+package com.playlist.converter.dto;
+
+import java.util.List;
+
+/**
+ * A page of a conversion's matched or skipped track names
+ *
+ * @param nextCursor cursor for the following page, or null when this is the last one
+ */
+public record TrackNamePage(
+        String conversionId,
+        String list,
+        List<String> trackNames,
+        Integer nextCursor) {
+}
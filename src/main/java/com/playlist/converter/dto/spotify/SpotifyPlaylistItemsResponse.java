@@ -0,0 +1,21 @@
+package com.playlist.converter.dto.spotify;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * Projection of a page of playlist items requested with {@code fields=items(track(uri))}
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record SpotifyPlaylistItemsResponse(List<Item> items) {
+
+    /**
+     * {@code track} is null for items Spotify no longer serves
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Item(ItemTrack track) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record ItemTrack(String uri) {}
+}
@@ -0,0 +1,19 @@
+package com.playlist.converter.dto.spotify;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Projection of the playlist object returned when a Spotify playlist is created
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record SpotifyPlaylistResponse(
+        String id,
+        String name,
+        String description,
+        Owner owner,
+        @JsonProperty("external_urls") SpotifyTrackItem.ExternalUrls externalUrls) {
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Owner(String id, @JsonProperty("display_name") String displayName) {}
+}
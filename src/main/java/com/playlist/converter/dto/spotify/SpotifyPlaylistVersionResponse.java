@@ -0,0 +1,18 @@
+package com.playlist.converter.dto.spotify;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Projection of a playlist requested with {@code fields=snapshot_id,tracks(total)}: its current version and length
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record SpotifyPlaylistVersionResponse(@JsonProperty("snapshot_id") String snapshotId, Tracks tracks) {
+
+    public int total() {
+        return tracks != null ? tracks.total() : 0;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Tracks(int total) {}
+}
@@ -0,0 +1,16 @@
+package com.playlist.converter.dto.spotify;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * Projection of a Spotify {@code /search?type=track} response.
+ * Only the fields the converter reads are mapped; Jackson skips everything else while parsing.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record SpotifySearchResponse(Tracks tracks) {
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Tracks(List<SpotifyTrackItem> items) {}
+}
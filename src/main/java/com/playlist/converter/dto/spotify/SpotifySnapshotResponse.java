@@ -0,0 +1,10 @@
+package com.playlist.converter.dto.spotify;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Response of Spotify playlist modifications: the playlist's new snapshot ID
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record SpotifySnapshotResponse(@JsonProperty("snapshot_id") String snapshotId) {}
@@ -0,0 +1,28 @@
+package com.playlist.converter.dto.spotify;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Projection of a Spotify track object
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record SpotifyTrackItem(
+        String id,
+        String name,
+        List<Named> artists,
+        Named album,
+        @JsonProperty("duration_ms") Long durationMs,
+        @JsonProperty("external_urls") ExternalUrls externalUrls) {
+
+    /**
+     * Artist or album reference; only the name is used
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Named(String name) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record ExternalUrls(String spotify) {}
+}
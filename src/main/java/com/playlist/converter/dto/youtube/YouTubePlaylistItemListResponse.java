@@ -0,0 +1,22 @@
+package com.playlist.converter.dto.youtube;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * Projection of a YouTube {@code /playlistItems?part=snippet} page.
+ * Thumbnails, descriptions and the other snippet fields are skipped while parsing.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record YouTubePlaylistItemListResponse(String nextPageToken, List<Item> items) {
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Item(Snippet snippet) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Snippet(String title, ResourceId resourceId) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record ResourceId(String videoId) {}
+}
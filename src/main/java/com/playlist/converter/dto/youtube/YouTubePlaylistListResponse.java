@@ -0,0 +1,21 @@
+package com.playlist.converter.dto.youtube;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * Projection of a YouTube {@code /playlists?part=snippet,contentDetails} response
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record YouTubePlaylistListResponse(List<Item> items) {
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Item(Snippet snippet, ContentDetails contentDetails) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Snippet(String title, String channelTitle) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record ContentDetails(int itemCount) {}
+}
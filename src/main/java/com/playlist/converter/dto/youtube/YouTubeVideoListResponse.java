@@ -0,0 +1,24 @@
+package com.playlist.converter.dto.youtube;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * Projection of a YouTube {@code /videos?part=snippet,contentDetails,topicDetails} response
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record YouTubeVideoListResponse(List<Video> items) {
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Video(String id, Snippet snippet, ContentDetails contentDetails, TopicDetails topicDetails) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Snippet(String channelTitle, String categoryId) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record ContentDetails(String duration) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record TopicDetails(List<String> topicCategories) {}
+}
@@ -0,0 +1,20 @@
+package com.playlist.converter.exception;
+
+/**
+ * Thrown when the conversion job queue is full and a new conversion cannot be accepted
+ */
+public class ConversionQueueFullException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int retryAfterSeconds;
+
+    public ConversionQueueFullException(int retryAfterSeconds) {
+        super("Conversion queue is full, please retry in " + retryAfterSeconds + " seconds");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
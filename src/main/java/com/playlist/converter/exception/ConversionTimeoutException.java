@@ -0,0 +1,15 @@
+package com.playlist.converter.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a conversion runs past its deadline ({@code app.conversion.timeout-minutes})
+ */
+public class ConversionTimeoutException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ConversionTimeoutException(Duration timeout) {
+        super("Conversion timed out after " + timeout.toMinutes() + " minutes");
+    }
+}
@@ -9,7 +9,12 @@ import java.util.List;
  * Entity representing a playlist conversion job
  */
 @Entity
-@Table(name = "conversions")
+@Table(name = "conversions", indexes = {
+        // History pages: equality on the user, then newest first with id as tie-breaker
+        @Index(name = "idx_conversions_user_created", columnList = "spotify_user_id, created_at, id"),
+        // Status scans (recovery, stale cleanup) in creation order
+        @Index(name = "idx_conversions_status_created", columnList = "status, created_at, id")
+})
 public class ConversionResult {
     
     @Id
@@ -25,6 +30,12 @@ public class ConversionResult {
     @Column(nullable = false)
     private String spotifyUserId;
     
+    // Options of the original request, kept so an interrupted conversion can be re-run
+    private String playlistName;
+    @Column(length = 1000)
+    private String playlistDescription;
+    private Boolean isPublic;
+    
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private ConversionStatus status;
@@ -36,15 +47,28 @@ public class ConversionResult {
     private String errorMessage;
     
     private Integer totalTracks;
+    private Integer tracksProcessed;
     private Integer matchedTracks;
     private Integer skippedTracks;
+    private Double averageMatchConfidence;
+    // Leading matched tracks already added to the Spotify playlist; a resumed conversion skips them
+    private Integer tracksAdded;
+    // Tracks a sync removed from the Spotify playlist because their videos left the YouTube playlist
+    private Integer tracksRemoved;
+    // Whether tracks were added to the Spotify playlist but could not be put back in YouTube order
+    private Boolean playlistOutOfOrder;
+    
+    // For a sync run, the conversion whose Spotify playlist it updates; null for a conversion
+    private String syncOf;
     
     @ElementCollection
     @CollectionTable(name = "matched_tracks", joinColumns = @JoinColumn(name = "conversion_id"))
+    @OrderColumn(name = "position")
     private List<String> matchedTrackNames;
     
     @ElementCollection
     @CollectionTable(name = "skipped_tracks", joinColumns = @JoinColumn(name = "conversion_id"))
+    @OrderColumn(name = "position")
     private List<String> skippedTrackNames;
     
     @Column(nullable = false)
@@ -52,6 +76,9 @@ public class ConversionResult {
     
     private LocalDateTime completedAt;
     
+    // When the current run was queued, then when it went IN_PROGRESS; its deadline counts from the latter
+    private LocalDateTime startedAt;
+    
     public ConversionResult() {}
     
     public ConversionResult(Long id, String conversionId, String youtubePlaylistUrl, String spotifyUserId, 
@@ -124,6 +151,30 @@ public class ConversionResult {
         this.spotifyUserId = spotifyUserId;
     }
 
+    public String getPlaylistName() {
+        return playlistName;
+    }
+
+    public void setPlaylistName(String playlistName) {
+        this.playlistName = playlistName;
+    }
+
+    public String getPlaylistDescription() {
+        return playlistDescription;
+    }
+
+    public void setPlaylistDescription(String playlistDescription) {
+        this.playlistDescription = playlistDescription;
+    }
+
+    public Boolean getIsPublic() {
+        return isPublic;
+    }
+
+    public void setIsPublic(Boolean isPublic) {
+        this.isPublic = isPublic;
+    }
+
     public ConversionStatus getStatus() {
         return status;
     }
@@ -164,6 +215,14 @@ public class ConversionResult {
         this.totalTracks = totalTracks;
     }
 
+    public Integer getTracksProcessed() {
+        return tracksProcessed;
+    }
+
+    public void setTracksProcessed(Integer tracksProcessed) {
+        this.tracksProcessed = tracksProcessed;
+    }
+
     public Integer getMatchedTracks() {
         return matchedTracks;
     }
@@ -180,6 +239,50 @@ public class ConversionResult {
         this.skippedTracks = skippedTracks;
     }
 
+    public Integer getTracksAdded() {
+        return tracksAdded;
+    }
+
+    public void setTracksAdded(Integer tracksAdded) {
+        this.tracksAdded = tracksAdded;
+    }
+
+    public Integer getTracksRemoved() {
+        return tracksRemoved;
+    }
+
+    public void setTracksRemoved(Integer tracksRemoved) {
+        this.tracksRemoved = tracksRemoved;
+    }
+
+    public Boolean getPlaylistOutOfOrder() {
+        return playlistOutOfOrder;
+    }
+
+    public void setPlaylistOutOfOrder(Boolean playlistOutOfOrder) {
+        this.playlistOutOfOrder = playlistOutOfOrder;
+    }
+
+    public String getSyncOf() {
+        return syncOf;
+    }
+
+    public void setSyncOf(String syncOf) {
+        this.syncOf = syncOf;
+    }
+
+    public boolean isSync() {
+        return syncOf != null;
+    }
+
+    public Double getAverageMatchConfidence() {
+        return averageMatchConfidence;
+    }
+
+    public void setAverageMatchConfidence(Double averageMatchConfidence) {
+        this.averageMatchConfidence = averageMatchConfidence;
+    }
+
     public List<String> getMatchedTrackNames() {
         return matchedTrackNames;
     }
@@ -204,6 +307,14 @@ public class ConversionResult {
         this.createdAt = createdAt;
     }
 
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
     public LocalDateTime getCompletedAt() {
         return completedAt;
     }
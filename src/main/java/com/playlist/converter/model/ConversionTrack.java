@@ -0,0 +1,171 @@
+package com.playlist.converter.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Checkpoint of one track of a running conversion: the search that was made for a YouTube video and
+ * what it found. A resumed conversion reuses these instead of searching again.
+ */
+@Entity
+@Table(name = "conversion_tracks", indexes = {
+        @Index(name = "idx_conversion_tracks_conversion", columnList = "conversion_id, video_id")
+})
+public class ConversionTrack {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String conversionId;
+
+    @Column(nullable = false)
+    private Integer position;
+
+    @Column(nullable = false)
+    private String videoId;
+
+    @Column(length = 500)
+    private String searchQuery;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TrackStatus status;
+
+    private String spotifyUri;
+    private String spotifyTrackId;
+    private String title;
+    private String artist;
+    private Double matchConfidence;
+
+    public ConversionTrack() {}
+
+    /**
+     * Creates the checkpoint of a finished search
+     *
+     * @param spotifyUri URI of the matched track, or null when nothing was found
+     */
+    public static ConversionTrack of(String conversionId, TrackMatch match, String spotifyUri) {
+        ConversionTrack track = new ConversionTrack();
+        track.setConversionId(conversionId);
+        track.setPosition(match.getPosition());
+        track.setVideoId(match.getYoutubeTrack().getId());
+        track.setSearchQuery(match.getSearchQuery());
+        track.setStatus(match.isMatched() ? TrackStatus.MATCHED : TrackStatus.NOT_FOUND);
+        if (match.isMatched()) {
+            Track spotifyTrack = match.getSpotifyTrack();
+            track.setSpotifyUri(spotifyUri);
+            track.setSpotifyTrackId(spotifyTrack.getId());
+            track.setTitle(spotifyTrack.getTitle());
+            track.setArtist(spotifyTrack.getArtist());
+            track.setMatchConfidence(spotifyTrack.getMatchConfidence());
+        }
+        return track;
+    }
+
+    /**
+     * Rebuilds the matched Spotify track, or null when the search found nothing
+     */
+    public Track toSpotifyTrack() {
+        if (status != TrackStatus.MATCHED) {
+            return null;
+        }
+        Track track = Track.fromSpotify(spotifyTrackId, title, artist, null, null, null);
+        track.setMatchConfidence(matchConfidence);
+        return track;
+    }
+
+    public enum TrackStatus {
+        MATCHED,
+        NOT_FOUND
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getConversionId() {
+        return conversionId;
+    }
+
+    public void setConversionId(String conversionId) {
+        this.conversionId = conversionId;
+    }
+
+    public Integer getPosition() {
+        return position;
+    }
+
+    public void setPosition(Integer position) {
+        this.position = position;
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public void setVideoId(String videoId) {
+        this.videoId = videoId;
+    }
+
+    public String getSearchQuery() {
+        return searchQuery;
+    }
+
+    public void setSearchQuery(String searchQuery) {
+        this.searchQuery = searchQuery;
+    }
+
+    public TrackStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TrackStatus status) {
+        this.status = status;
+    }
+
+    public String getSpotifyUri() {
+        return spotifyUri;
+    }
+
+    public void setSpotifyUri(String spotifyUri) {
+        this.spotifyUri = spotifyUri;
+    }
+
+    public String getSpotifyTrackId() {
+        return spotifyTrackId;
+    }
+
+    public void setSpotifyTrackId(String spotifyTrackId) {
+        this.spotifyTrackId = spotifyTrackId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getArtist() {
+        return artist;
+    }
+
+    public void setArtist(String artist) {
+        this.artist = artist;
+    }
+
+    public Double getMatchConfidence() {
+        return matchConfidence;
+    }
+
+    public void setMatchConfidence(Double matchConfidence) {
+        this.matchConfidence = matchConfidence;
+    }
+}
@@ -0,0 +1,99 @@
+package com.playlist.converter.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A YouTube video already reflected in a synced Spotify playlist, and the track it was mapped to.
+ * Rows are kept per (YouTube playlist, Spotify playlist) pair; a sync only searches videos without a row
+ * and only removes tracks whose video left the YouTube playlist.
+ */
+@Entity
+@Table(name = "playlist_sync_tracks", indexes = {
+        @Index(name = "idx_playlist_sync_tracks_pair", columnList = "spotify_playlist_id, youtube_playlist_id, video_id")
+})
+public class PlaylistSyncTrack {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String youtubePlaylistId;
+
+    @Column(nullable = false)
+    private String spotifyPlaylistId;
+
+    @Column(nullable = false)
+    private String videoId;
+
+    // Null when no Spotify track was found for the video
+    private String spotifyUri;
+
+    @Column(nullable = false)
+    private LocalDateTime syncedAt;
+
+    public PlaylistSyncTrack() {}
+
+    public PlaylistSyncTrack(String youtubePlaylistId, String spotifyPlaylistId, String videoId, String spotifyUri) {
+        this.youtubePlaylistId = youtubePlaylistId;
+        this.spotifyPlaylistId = spotifyPlaylistId;
+        this.videoId = videoId;
+        this.spotifyUri = spotifyUri;
+    }
+
+    @PrePersist
+    public void prePersist() {
+        this.syncedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getYoutubePlaylistId() {
+        return youtubePlaylistId;
+    }
+
+    public void setYoutubePlaylistId(String youtubePlaylistId) {
+        this.youtubePlaylistId = youtubePlaylistId;
+    }
+
+    public String getSpotifyPlaylistId() {
+        return spotifyPlaylistId;
+    }
+
+    public void setSpotifyPlaylistId(String spotifyPlaylistId) {
+        this.spotifyPlaylistId = spotifyPlaylistId;
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public void setVideoId(String videoId) {
+        this.videoId = videoId;
+    }
+
+    public String getSpotifyUri() {
+        return spotifyUri;
+    }
+
+    public void setSpotifyUri(String spotifyUri) {
+        this.spotifyUri = spotifyUri;
+    }
+
+    public LocalDateTime getSyncedAt() {
+        return syncedAt;
+    }
+
+    public void setSyncedAt(LocalDateTime syncedAt) {
+        this.syncedAt = syncedAt;
+    }
+}
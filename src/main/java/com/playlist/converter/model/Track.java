@@ -1,5 +1,7 @@
 package com.playlist.converter.model;
 
+import java.util.List;
+
 /**
  * Represents a music track from either YouTube or Spotify
  */
@@ -12,6 +14,10 @@ public class Track {
     private Long durationMs;
     private String externalUrl;
     private String source; // "youtube" or "spotify"
+    private Double matchConfidence; // 0..1 for Spotify search results, null when not scored
+    private String channelTitle; // YouTube uploader
+    private String categoryId; // YouTube video category, "10" is Music
+    private List<String> topics; // YouTube topic categories, e.g. "Pop music"
     
     public Track() {}
     
@@ -107,4 +113,36 @@ public class Track {
     public void setSource(String source) {
         this.source = source;
     }
+
+    public Double getMatchConfidence() {
+        return matchConfidence;
+    }
+
+    public void setMatchConfidence(Double matchConfidence) {
+        this.matchConfidence = matchConfidence;
+    }
+
+    public String getChannelTitle() {
+        return channelTitle;
+    }
+
+    public void setChannelTitle(String channelTitle) {
+        this.channelTitle = channelTitle;
+    }
+
+    public String getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(String categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public List<String> getTopics() {
+        return topics;
+    }
+
+    public void setTopics(List<String> topics) {
+        this.topics = topics;
+    }
 }
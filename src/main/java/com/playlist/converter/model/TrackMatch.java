@@ -0,0 +1,71 @@
+package com.playlist.converter.model;
+
+/**
+ * Outcome of searching Spotify for a single YouTube track
+ */
+public class TrackMatch {
+
+    private final int position;
+    private final Track youtubeTrack;
+    private final String searchQuery;
+    private final Track spotifyTrack; // null when no Spotify track was found
+    private final boolean searchFailed;
+
+    public TrackMatch(int position, Track youtubeTrack, String searchQuery, Track spotifyTrack) {
+        this(position, youtubeTrack, searchQuery, spotifyTrack, false);
+    }
+
+    private TrackMatch(int position, Track youtubeTrack, String searchQuery, Track spotifyTrack, boolean searchFailed) {
+        this.position = position;
+        this.youtubeTrack = youtubeTrack;
+        this.searchQuery = searchQuery;
+        this.spotifyTrack = spotifyTrack;
+        this.searchFailed = searchFailed;
+    }
+
+    /**
+     * Outcome of a search that failed: the track is unmatched, but unlike a track Spotify does not have,
+     * searching again may still find it
+     */
+    public static TrackMatch searchFailed(int position, Track youtubeTrack, String searchQuery) {
+        return new TrackMatch(position, youtubeTrack, searchQuery, null, true);
+    }
+
+    /**
+     * Whether a Spotify track was found for the YouTube track
+     */
+    public boolean isMatched() {
+        return spotifyTrack != null;
+    }
+
+    /**
+     * Whether the track is unmatched because its search failed rather than because nothing was found
+     */
+    public boolean isSearchFailed() {
+        return searchFailed;
+    }
+
+    /**
+     * Confidence of the Spotify match in [0, 1], or null when unmatched or not scored
+     */
+    public Double getConfidence() {
+        return spotifyTrack != null ? spotifyTrack.getMatchConfidence() : null;
+    }
+
+    // Getters
+    public int getPosition() {
+        return position;
+    }
+
+    public Track getYoutubeTrack() {
+        return youtubeTrack;
+    }
+
+    public String getSearchQuery() {
+        return searchQuery;
+    }
+
+    public Track getSpotifyTrack() {
+        return spotifyTrack;
+    }
+}
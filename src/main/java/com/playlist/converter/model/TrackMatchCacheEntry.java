@@ -0,0 +1,146 @@
+package com.playlist.converter.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity caching the Spotify track matched for a YouTube video.
+ * Entries without a Spotify track record videos that recently failed to match.
+ */
+@Entity
+@Table(name = "track_match_cache")
+public class TrackMatchCacheEntry {
+
+    @Id
+    private String videoId;
+
+    @Column(nullable = false)
+    private boolean matched;
+
+    private String spotifyTrackId;
+    private String title;
+    private String artist;
+    private String album;
+    private Long durationMs;
+    private String externalUrl;
+    private Double matchConfidence;
+
+    @Column(nullable = false)
+    private LocalDateTime cachedAt;
+
+    public TrackMatchCacheEntry() {}
+
+    /**
+     * Creates a cache entry for a video, using a null track to record a failed match
+     */
+    public static TrackMatchCacheEntry of(String videoId, Track spotifyTrack) {
+        TrackMatchCacheEntry entry = new TrackMatchCacheEntry();
+        entry.setVideoId(videoId);
+        entry.setMatched(spotifyTrack != null);
+        if (spotifyTrack != null) {
+            entry.setSpotifyTrackId(spotifyTrack.getId());
+            entry.setTitle(spotifyTrack.getTitle());
+            entry.setArtist(spotifyTrack.getArtist());
+            entry.setAlbum(spotifyTrack.getAlbum());
+            entry.setDurationMs(spotifyTrack.getDurationMs());
+            entry.setExternalUrl(spotifyTrack.getExternalUrl());
+            entry.setMatchConfidence(spotifyTrack.getMatchConfidence());
+        }
+        entry.setCachedAt(LocalDateTime.now());
+        return entry;
+    }
+
+    /**
+     * Rebuilds the cached Spotify track, or null for a failed match
+     */
+    public Track toTrack() {
+        if (!matched) {
+            return null;
+        }
+        Track track = Track.fromSpotify(spotifyTrackId, title, artist, album, durationMs, externalUrl);
+        track.setMatchConfidence(matchConfidence);
+        return track;
+    }
+
+    // Getters and Setters
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public void setVideoId(String videoId) {
+        this.videoId = videoId;
+    }
+
+    public boolean isMatched() {
+        return matched;
+    }
+
+    public void setMatched(boolean matched) {
+        this.matched = matched;
+    }
+
+    public String getSpotifyTrackId() {
+        return spotifyTrackId;
+    }
+
+    public void setSpotifyTrackId(String spotifyTrackId) {
+        this.spotifyTrackId = spotifyTrackId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getArtist() {
+        return artist;
+    }
+
+    public void setArtist(String artist) {
+        this.artist = artist;
+    }
+
+    public String getAlbum() {
+        return album;
+    }
+
+    public void setAlbum(String album) {
+        this.album = album;
+    }
+
+    public Long getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(Long durationMs) {
+        this.durationMs = durationMs;
+    }
+
+    public String getExternalUrl() {
+        return externalUrl;
+    }
+
+    public void setExternalUrl(String externalUrl) {
+        this.externalUrl = externalUrl;
+    }
+
+    public Double getMatchConfidence() {
+        return matchConfidence;
+    }
+
+    public void setMatchConfidence(Double matchConfidence) {
+        this.matchConfidence = matchConfidence;
+    }
+
+    public LocalDateTime getCachedAt() {
+        return cachedAt;
+    }
+
+    public void setCachedAt(LocalDateTime cachedAt) {
+        this.cachedAt = cachedAt;
+    }
+}
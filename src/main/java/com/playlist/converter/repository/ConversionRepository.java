@@ -1,8 +1,14 @@
 package com.playlist.converter.repository;
 
+import com.playlist.converter.dto.ConversionSummary;
 import com.playlist.converter.model.ConversionResult;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -20,15 +26,79 @@ public interface ConversionRepository extends JpaRepository<ConversionResult, Lo
     Optional<ConversionResult> findByConversionId(String conversionId);
     
     /**
-     * Find conversions by user ID
+     * Find conversions by user ID. Unbounded; pages use {@link #findSummariesBySpotifyUserId}.
      */
     List<ConversionResult> findBySpotifyUserIdOrderByCreatedAtDesc(String spotifyUserId);
     
     /**
-     * Find conversions by status
+     * First page of a user's history as summaries, newest first; track name collections are not touched
+     */
+    @Query("select new com.playlist.converter.dto.ConversionSummary(c.id, c.conversionId, c.youtubePlaylistUrl, " +
+           "c.status, c.spotifyPlaylistId, c.spotifyPlaylistUrl, c.totalTracks, c.matchedTracks, c.skippedTracks, " +
+           "c.averageMatchConfidence, c.errorMessage, c.createdAt, c.completedAt) " +
+           "from ConversionResult c where c.spotifyUserId = :spotifyUserId order by c.createdAt desc, c.id desc")
+    List<ConversionSummary> findSummariesBySpotifyUserId(@Param("spotifyUserId") String spotifyUserId, Pageable pageable);
+    
+    /**
+     * Following pages of a user's history: seeks past the last row of the previous page on
+     * idx_conversions_user_created instead of skipping an offset
+     */
+    @Query("select new com.playlist.converter.dto.ConversionSummary(c.id, c.conversionId, c.youtubePlaylistUrl, " +
+           "c.status, c.spotifyPlaylistId, c.spotifyPlaylistUrl, c.totalTracks, c.matchedTracks, c.skippedTracks, " +
+           "c.averageMatchConfidence, c.errorMessage, c.createdAt, c.completedAt) " +
+           "from ConversionResult c where c.spotifyUserId = :spotifyUserId " +
+           "and (c.createdAt < :createdAt or (c.createdAt = :createdAt and c.id < :id)) " +
+           "order by c.createdAt desc, c.id desc")
+    List<ConversionSummary> findSummariesBySpotifyUserIdBefore(@Param("spotifyUserId") String spotifyUserId,
+                                                               @Param("createdAt") LocalDateTime createdAt,
+                                                               @Param("id") long id,
+                                                               Pageable pageable);
+    
+    /**
+     * Matched track names from position {@code from} on, in playlist order
+     */
+    @Query("select t from ConversionResult c join c.matchedTrackNames t " +
+           "where c.conversionId = :conversionId and index(t) >= :from order by index(t)")
+    List<String> findMatchedTrackNames(@Param("conversionId") String conversionId, @Param("from") int from, Pageable pageable);
+    
+    /**
+     * Skipped track names from position {@code from} on, in playlist order
+     */
+    @Query("select t from ConversionResult c join c.skippedTrackNames t " +
+           "where c.conversionId = :conversionId and index(t) >= :from order by index(t)")
+    List<String> findSkippedTrackNames(@Param("conversionId") String conversionId, @Param("from") int from, Pageable pageable);
+    
+    /**
+     * Whether a conversion exists
+     */
+    boolean existsByConversionId(String conversionId);
+    
+    /**
+     * Whether a conversion or sync writing to a Spotify playlist is in one of the given states
+     */
+    boolean existsBySpotifyPlaylistIdAndStatusIn(String spotifyPlaylistId, List<ConversionResult.ConversionStatus> statuses);
+    
+    /**
+     * Find conversions by status. Unbounded; batch work uses the keyset variants below.
      */
     List<ConversionResult> findByStatus(ConversionResult.ConversionStatus status);
     
+    /**
+     * First page of conversions in a status, oldest first
+     */
+    List<ConversionResult> findByStatusOrderByCreatedAtAscIdAsc(ConversionResult.ConversionStatus status, Pageable pageable);
+    
+    /**
+     * Next page of conversions in a status, after the given row
+     */
+    @Query("select c from ConversionResult c where c.status = :status " +
+           "and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id)) " +
+           "order by c.createdAt asc, c.id asc")
+    List<ConversionResult> findByStatusAfter(@Param("status") ConversionResult.ConversionStatus status,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") long id,
+                                             Pageable pageable);
+    
     /**
      * Find conversions created after a specific date
      */
@@ -36,10 +106,78 @@ public interface ConversionRepository extends JpaRepository<ConversionResult, Lo
     
     /**
      * Find pending or in-progress conversions older than specified time
-     * (useful for cleanup of stale conversions)
+     * (useful for cleanup of stale conversions). Unbounded; batch work uses the keyset variants below.
      */
     List<ConversionResult> findByStatusInAndCreatedAtBefore(
             List<ConversionResult.ConversionStatus> statuses, 
             LocalDateTime dateTime
     );
+    
+    /**
+     * First page of conversions in the given statuses created before a time, oldest first
+     */
+    List<ConversionResult> findByStatusInAndCreatedAtBeforeOrderByCreatedAtAscIdAsc(
+            List<ConversionResult.ConversionStatus> statuses,
+            LocalDateTime dateTime,
+            Pageable pageable
+    );
+    
+    /**
+     * Next page of conversions in the given statuses created before a time, after the given row
+     */
+    @Query("select c from ConversionResult c where c.status in :statuses and c.createdAt < :before " +
+           "and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id)) " +
+           "order by c.createdAt asc, c.id asc")
+    List<ConversionResult> findByStatusInAndCreatedAtBeforeAfter(
+            @Param("statuses") List<ConversionResult.ConversionStatus> statuses,
+            @Param("before") LocalDateTime dateTime,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") long id,
+            Pageable pageable
+    );
+    
+    /**
+     * Updates only the progress counter; it never moves backwards, so a late flush cannot undo a newer one
+     */
+    @Modifying
+    @Transactional
+    @Query("update ConversionResult c set c.tracksProcessed = :tracksProcessed " +
+           "where c.conversionId = :conversionId and (c.tracksProcessed is null or c.tracksProcessed < :tracksProcessed)")
+    int updateTracksProcessed(@Param("conversionId") String conversionId, @Param("tracksProcessed") int tracksProcessed);
+    
+    /**
+     * Records how many matched tracks have been added to the Spotify playlist so far
+     */
+    @Modifying
+    @Transactional
+    @Query("update ConversionResult c set c.tracksAdded = :tracksAdded where c.conversionId = :conversionId")
+    int updateTracksAdded(@Param("conversionId") String conversionId, @Param("tracksAdded") int tracksAdded);
+    
+    /**
+     * Moves a conversion from one status to another if it is still in the first, stamping {@code startedAt};
+     * returns 0 when another request changed its status first
+     */
+    @Modifying
+    @Transactional
+    @Query("update ConversionResult c set c.status = :to, c.startedAt = :startedAt " +
+           "where c.conversionId = :conversionId and c.status = :from")
+    int updateStatusIf(@Param("conversionId") String conversionId,
+                       @Param("from") ConversionResult.ConversionStatus from,
+                       @Param("to") ConversionResult.ConversionStatus to,
+                       @Param("startedAt") LocalDateTime startedAt);
+    
+    /**
+     * Claims a conversion left PENDING or IN_PROGRESS by an earlier instance: moves it to PENDING and stamps
+     * {@code startedAt}, unless a run queued or started since {@code instanceStartedAt} stamped it already
+     */
+    @Modifying
+    @Transactional
+    @Query("update ConversionResult c set c.status = :pending, c.startedAt = :startedAt " +
+           "where c.conversionId = :conversionId and c.status in :statuses " +
+           "and (c.startedAt is null or c.startedAt < :instanceStartedAt)")
+    int claimInterrupted(@Param("conversionId") String conversionId,
+                         @Param("statuses") List<ConversionResult.ConversionStatus> statuses,
+                         @Param("pending") ConversionResult.ConversionStatus pending,
+                         @Param("instanceStartedAt") LocalDateTime instanceStartedAt,
+                         @Param("startedAt") LocalDateTime startedAt);
 }
@@ -0,0 +1,31 @@
+package com.playlist.converter.repository;
+
+import com.playlist.converter.model.ConversionTrack;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Repository interface for ConversionTrack checkpoints
+ */
+@Repository
+public interface ConversionTrackRepository extends JpaRepository<ConversionTrack, Long> {
+
+    /**
+     * All checkpoints of a conversion
+     */
+    List<ConversionTrack> findByConversionId(String conversionId);
+
+    /**
+     * Drops the checkpoints of a conversion in one statement
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from ConversionTrack t where t.conversionId = :conversionId")
+    int deleteByConversionId(@Param("conversionId") String conversionId);
+}
@@ -0,0 +1,37 @@
+package com.playlist.converter.repository;
+
+import com.playlist.converter.model.PlaylistSyncTrack;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for the video-to-track mappings of synced playlists
+ */
+@Repository
+public interface PlaylistSyncTrackRepository extends JpaRepository<PlaylistSyncTrack, Long> {
+
+    /**
+     * Every mapping of a (YouTube playlist, Spotify playlist) pair
+     */
+    List<PlaylistSyncTrack> findBySpotifyPlaylistIdAndYoutubePlaylistId(String spotifyPlaylistId, String youtubePlaylistId);
+
+    boolean existsBySpotifyPlaylistIdAndYoutubePlaylistId(String spotifyPlaylistId, String youtubePlaylistId);
+
+    /**
+     * Drops the mappings of videos that left the YouTube playlist in one statement
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from PlaylistSyncTrack t where t.spotifyPlaylistId = :spotifyPlaylistId "
+            + "and t.youtubePlaylistId = :youtubePlaylistId and t.videoId in :videoIds")
+    int deleteVideos(@Param("spotifyPlaylistId") String spotifyPlaylistId,
+                     @Param("youtubePlaylistId") String youtubePlaylistId,
+                     @Param("videoIds") Collection<String> videoIds);
+}
@@ -0,0 +1,12 @@
+package com.playlist.converter.repository;
+
+import com.playlist.converter.model.TrackMatchCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for TrackMatchCacheEntry entity, keyed by YouTube video ID
+ */
+@Repository
+public interface TrackMatchCacheRepository extends JpaRepository<TrackMatchCacheEntry, String> {
+}
@@ -0,0 +1,195 @@
+package com.playlist.converter.service;
+
+import com.playlist.converter.model.ConversionTrack;
+import com.playlist.converter.model.TrackMatch;
+import com.playlist.converter.repository.ConversionTrackRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-track checkpoints of running conversions.
+ * Every finished search is buffered and written in batches of {@code batch-size}, so a failed or interrupted
+ * conversion keeps the searches it already made; they are flushed in full before the conversion touches
+ * Spotify playlists and when it fails. Checkpoints are dropped once the conversion completes.
+ */
+@Service
+public class ConversionCheckpointService {
+
+    private static final Logger log = LoggerFactory.getLogger(ConversionCheckpointService.class);
+
+    private final ConversionTrackRepository conversionTrackRepository;
+    private final int batchSize;
+    private final Map<String, Buffer> buffers = new ConcurrentHashMap<>();
+
+    public ConversionCheckpointService(ConversionTrackRepository conversionTrackRepository,
+                                       @Value("${app.conversion.checkpoint.batch-size:25}") int batchSize) {
+        this.conversionTrackRepository = conversionTrackRepository;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Checkpoints of a conversion that has added its first {@code tracksAdded} matched tracks to the playlist;
+     * empty for a conversion that never ran
+     */
+    public Checkpoints load(String conversionId, int tracksAdded) {
+        return Checkpoints.of(conversionTrackRepository.findByConversionId(conversionId), tracksAdded);
+    }
+
+    /**
+     * Buffers the checkpoint of a finished search; safe to call from any thread, never blocks.
+     * Failed searches are not checkpointed, so a resume searches them again.
+     *
+     * @param spotifyUri URI of the matched track, or null when nothing was found
+     */
+    public void record(String conversionId, TrackMatch match, String spotifyUri) {
+        Buffer buffer = buffers.computeIfAbsent(conversionId, id -> new Buffer());
+        buffer.tracks.add(ConversionTrack.of(conversionId, match, spotifyUri));
+        if (buffer.recorded.incrementAndGet() % batchSize == 0) {
+            // Callers may be event loop threads; the insert runs elsewhere
+            Schedulers.boundedElastic().schedule(() -> flush(conversionId, buffer));
+        }
+    }
+
+    /**
+     * Writes every buffered checkpoint of a conversion. Searches may still be running: the buffer stays in
+     * place, so checkpoints recorded during or after the write go out with the next batch or flush.
+     */
+    public void flush(String conversionId) {
+        Buffer buffer = buffers.get(conversionId);
+        if (buffer != null) {
+            flush(conversionId, buffer);
+        }
+    }
+
+    /**
+     * Writes every buffered checkpoint of a conversion that stopped running and releases its buffer
+     */
+    public void finish(String conversionId) {
+        Buffer buffer = buffers.remove(conversionId);
+        if (buffer != null) {
+            flush(conversionId, buffer);
+        }
+    }
+
+    /**
+     * Drops the checkpoints of a conversion, buffered and written
+     */
+    public void discard(String conversionId) {
+        Buffer buffer = buffers.remove(conversionId);
+        if (buffer == null) {
+            conversionTrackRepository.deleteByConversionId(conversionId);
+            return;
+        }
+        // Waits for a batch write in progress, which would otherwise land after the delete
+        synchronized (buffer) {
+            buffer.tracks.clear();
+            conversionTrackRepository.deleteByConversionId(conversionId);
+        }
+    }
+
+    private void flush(String conversionId, Buffer buffer) {
+        synchronized (buffer) {
+            List<ConversionTrack> batch = new ArrayList<>();
+            ConversionTrack track;
+            while ((track = buffer.tracks.poll()) != null) {
+                batch.add(track);
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                conversionTrackRepository.saveAll(batch);
+            } catch (DataAccessException e) {
+                // A resumed conversion searches those tracks again, or skips them if later tracks were already added
+                log.warn("Could not checkpoint {} tracks of conversion {}: {}", batch.size(), conversionId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Searches a previous attempt made, keyed by YouTube video ID, and how far its playlist writes got
+     */
+    public static final class Checkpoints {
+
+        private static final Checkpoints NONE = new Checkpoints(Map.of(), Set.of(), -1);
+
+        private final Map<String, ConversionTrack> byVideo;
+        private final Set<Integer> positions;
+        private final int addedThrough;
+
+        private Checkpoints(Map<String, ConversionTrack> byVideo, Set<Integer> positions, int addedThrough) {
+            this.byVideo = byVideo;
+            this.positions = positions;
+            this.addedThrough = addedThrough;
+        }
+
+        /**
+         * Checkpoints of a conversion that never ran
+         */
+        public static Checkpoints none() {
+            return NONE;
+        }
+
+        /**
+         * Checkpoints from the stored tracks of a conversion whose first {@code tracksAdded} matched tracks
+         * are in the playlist
+         */
+        public static Checkpoints of(List<ConversionTrack> tracks, int tracksAdded) {
+            List<ConversionTrack> byPosition = new ArrayList<>(tracks);
+            byPosition.sort(Comparator.comparing(ConversionTrack::getPosition));
+            Map<String, ConversionTrack> byVideo = new HashMap<>();
+            Set<Integer> positions = new HashSet<>();
+            int added = 0;
+            int addedThrough = -1;
+            for (ConversionTrack track : byPosition) {
+                byVideo.put(track.getVideoId(), track);
+                positions.add(track.getPosition());
+                if (added < tracksAdded && track.getStatus() == ConversionTrack.TrackStatus.MATCHED) {
+                    added++;
+                    addedThrough = track.getPosition();
+                }
+            }
+            return new Checkpoints(byVideo, positions, addedThrough);
+        }
+
+        /**
+         * The checkpoint of a video, or null when it has to be searched
+         */
+        public ConversionTrack get(String videoId) {
+            return byVideo.get(videoId);
+        }
+
+        public boolean contains(String videoId) {
+            return byVideo.containsKey(videoId);
+        }
+
+        /**
+         * Whether the track at a position has no checkpoint although tracks after it were already added: its
+         * search failed, and a match found now could no longer be added in playlist order
+         */
+        public boolean isSkippedBeforeAdded(int position) {
+            return position < addedThrough && !positions.contains(position);
+        }
+    }
+
+    private static final class Buffer {
+        private final Queue<ConversionTrack> tracks = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger recorded = new AtomicInteger();
+    }
+}
@@ -0,0 +1,76 @@
+package com.playlist.converter.service;
+
+import com.playlist.converter.exception.ConversionTimeoutException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Point in time by which a running conversion has to finish.
+ * {@link #bound} makes a Mono fail with {@link ConversionTimeoutException} once the deadline passes; the
+ * timeout cancels the subscription, which aborts every WebClient exchange still in flight beneath it.
+ */
+public final class ConversionDeadline {
+
+    private static final ConversionDeadline NONE = new ConversionDeadline(Duration.ZERO, 0);
+
+    private final Duration timeout;
+    // System.nanoTime() of the deadline
+    private final long deadlineNanos;
+
+    private ConversionDeadline(Duration timeout, long deadlineNanos) {
+        this.timeout = timeout;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Deadline {@code timeout} from now
+     */
+    public static ConversionDeadline after(Duration timeout) {
+        return new ConversionDeadline(timeout, System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * No deadline; {@link #bound} leaves publishers unchanged
+     */
+    public static ConversionDeadline none() {
+        return NONE;
+    }
+
+    /**
+     * Time left, zero once the deadline has passed
+     */
+    public Duration remaining() {
+        long remaining = deadlineNanos - System.nanoTime();
+        return remaining > 0 ? Duration.ofNanos(remaining) : Duration.ZERO;
+    }
+
+    /**
+     * How long ago the deadline passed, zero while it has not
+     */
+    Duration overdue() {
+        long overdue = System.nanoTime() - deadlineNanos;
+        return this != NONE && overdue > 0 ? Duration.ofNanos(overdue) : Duration.ZERO;
+    }
+
+    public boolean isExceeded() {
+        return this != NONE && deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * The exception a conversion fails with when it misses this deadline
+     */
+    public ConversionTimeoutException exceeded() {
+        return new ConversionTimeoutException(timeout);
+    }
+
+    /**
+     * Fails {@code mono} with {@link #exceeded()} if it has not completed by the deadline
+     */
+    public <T> Mono<T> bound(Mono<T> mono) {
+        if (this == NONE) {
+            return mono;
+        }
+        return mono.timeout(remaining(), Mono.error(this::exceeded));
+    }
+}
@@ -0,0 +1,96 @@
+package com.playlist.converter.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Deadlines of the conversions running in this JVM.
+ * A conversion starts its clock when it goes IN_PROGRESS and stops it when it ends. Conversions enforce their own
+ * deadline on every upstream call; {@link ConversionReaper} uses {@link #cancelOverdue} for the ones that are stuck
+ * somewhere a timeout cannot reach.
+ */
+@Service
+public class ConversionDeadlines {
+
+    private final Duration timeout;
+    private final Map<String, Running> running = new ConcurrentHashMap<>();
+
+    public ConversionDeadlines(@Value("${app.conversion.timeout-minutes:10}") long timeoutMinutes) {
+        this.timeout = Duration.ofMinutes(timeoutMinutes);
+    }
+
+    /**
+     * Starts the clock of a conversion
+     *
+     * @param cancel stops the conversion; invoked at most once, and never after {@link #finish}
+     */
+    public ConversionDeadline start(String conversionId, Runnable cancel) {
+        ConversionDeadline deadline = ConversionDeadline.after(timeout);
+        running.put(conversionId, new Running(deadline, cancel));
+        return deadline;
+    }
+
+    /**
+     * Stops the clock of a conversion; after this returns its cancel action no longer runs
+     */
+    public void finish(String conversionId) {
+        Running conversion = running.remove(conversionId);
+        if (conversion != null) {
+            conversion.finish();
+        }
+    }
+
+    /**
+     * Whether a conversion is running in this JVM
+     */
+    public boolean isRunning(String conversionId) {
+        return running.containsKey(conversionId);
+    }
+
+    /**
+     * Cancels conversions still running {@code grace} after their deadline and returns how many there were
+     */
+    public int cancelOverdue(Duration grace) {
+        int cancelled = 0;
+        for (Map.Entry<String, Running> entry : running.entrySet()) {
+            Running conversion = entry.getValue();
+            if (conversion.deadline.isExceeded() && conversion.deadline.overdue().compareTo(grace) >= 0
+                    && running.remove(entry.getKey(), conversion) && conversion.cancel()) {
+                cancelled++;
+            }
+        }
+        return cancelled;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    private static final class Running {
+        private final ConversionDeadline deadline;
+        private final Runnable cancel;
+        private boolean finished;
+
+        private Running(ConversionDeadline deadline, Runnable cancel) {
+            this.deadline = deadline;
+            this.cancel = cancel;
+        }
+
+        private synchronized boolean cancel() {
+            if (finished) {
+                return false;
+            }
+            finished = true;
+            cancel.run();
+            return true;
+        }
+
+        private synchronized void finish() {
+            finished = true;
+        }
+    }
+}
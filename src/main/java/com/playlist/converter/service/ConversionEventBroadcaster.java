@@ -0,0 +1,86 @@
+package com.playlist.converter.service;
+
+import com.playlist.converter.dto.ConversionProgressEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fans conversion progress out to any number of stream subscribers.
+ * Each running conversion has one multicast sink that replays its latest event to late subscribers;
+ * the sink completes after the terminal event. Subscribers hold no thread while waiting.
+ */
+@Service
+public class ConversionEventBroadcaster {
+
+    private final Map<String, Sinks.Many<ConversionProgressEvent>> sinks = new ConcurrentHashMap<>();
+
+    public ConversionEventBroadcaster(MeterRegistry meterRegistry) {
+        Gauge.builder("conversion.progress.streams", sinks, Map::size)
+                .description("Conversions with an open progress stream")
+                .register(meterRegistry);
+        Gauge.builder("conversion.progress.subscribers", this, ConversionEventBroadcaster::getSubscriberCount)
+                .description("Clients subscribed to conversion progress streams")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens the stream of a new conversion
+     */
+    public void open(String conversionId) {
+        sinks.putIfAbsent(conversionId, Sinks.many().replay().latest());
+    }
+
+    /**
+     * Publishes an event; a terminal event also completes and closes the stream
+     */
+    public void publish(ConversionProgressEvent event) {
+        Sinks.Many<ConversionProgressEvent> sink = sinks.get(event.conversionId());
+        if (sink == null) {
+            return;
+        }
+        // Track events come from several search threads; sinks require serialized emission
+        synchronized (sink) {
+            sink.tryEmitNext(event);
+            if (event.isTerminal()) {
+                sink.tryEmitComplete();
+            }
+        }
+        if (event.isTerminal()) {
+            sinks.remove(event.conversionId(), sink);
+        }
+    }
+
+    /**
+     * Closes a stream without a terminal event, e.g. when the conversion was never queued
+     */
+    public void close(String conversionId) {
+        Sinks.Many<ConversionProgressEvent> sink = sinks.remove(conversionId);
+        if (sink != null) {
+            synchronized (sink) {
+                sink.tryEmitComplete();
+            }
+        }
+    }
+
+    /**
+     * Live events of a running conversion, starting with its latest one, or null when it is not running here
+     */
+    public Flux<ConversionProgressEvent> stream(String conversionId) {
+        Sinks.Many<ConversionProgressEvent> sink = sinks.get(conversionId);
+        return sink != null ? sink.asFlux() : null;
+    }
+
+    private int getSubscriberCount() {
+        int subscribers = 0;
+        for (Sinks.Many<ConversionProgressEvent> sink : sinks.values()) {
+            subscribers += sink.currentSubscriberCount();
+        }
+        return subscribers;
+    }
+}
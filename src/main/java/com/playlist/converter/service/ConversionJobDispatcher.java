@@ -0,0 +1,154 @@
+package com.playlist.converter.service;
+
+import com.playlist.converter.exception.ConversionQueueFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs conversion jobs on a dedicated worker pool with a bounded queue.
+ * Submission never blocks and never runs the job on the caller's thread: when the queue is full
+ * the job is rejected with a {@link ConversionQueueFullException}. Workers are platform or virtual
+ * threads depending on {@code app.conversion.executor-mode}; the worker count bounds concurrency either way.
+ *
+ * Reactive conversions ({@code app.conversion.pipeline=reactive}) go through {@link #submitReactive}: they are
+ * subscribed rather than run on a worker, with the same limits on running and queued jobs.
+ */
+@Service
+public class ConversionJobDispatcher implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ConversionJobDispatcher.class);
+
+    private final ThreadPoolExecutor executor;
+    private final int workers;
+    private final int queueCapacity;
+    private final int retryAfterSeconds;
+    private final Counter rejectedJobs;
+    
+    // Reactive jobs waiting for a slot; guarded by this
+    private final Deque<Mono<Void>> pendingReactiveJobs = new ArrayDeque<>();
+    private int runningReactiveJobs;
+
+    public ConversionJobDispatcher(MeterRegistry meterRegistry,
+                                   @Qualifier("conversionThreadFactory") ThreadFactory threadFactory,
+                                   @Value("${app.conversion.workers:5}") int workers,
+                                   @Value("${app.conversion.queue-capacity:50}") int queueCapacity,
+                                   @Value("${app.conversion.retry-after-seconds:30}") int retryAfterSeconds) {
+        this.workers = workers;
+        this.queueCapacity = queueCapacity;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.executor = new ThreadPoolExecutor(
+                workers, workers,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+
+        // executor.queued, executor.active, executor.queue.remaining, ... tagged name=conversions
+        new ExecutorServiceMetrics(executor, "conversions", Tags.empty()).bindTo(meterRegistry);
+        this.rejectedJobs = Counter.builder("conversion.jobs.rejected")
+                .description("Conversions rejected because the job queue was full")
+                .register(meterRegistry);
+        Gauge.builder("conversion.jobs.reactive.active", this, ConversionJobDispatcher::getRunningReactiveJobs)
+                .description("Reactive conversions currently subscribed")
+                .register(meterRegistry);
+        Gauge.builder("conversion.jobs.reactive.queued", this, ConversionJobDispatcher::getPendingReactiveJobs)
+                .description("Reactive conversions waiting for a slot")
+                .register(meterRegistry);
+
+        log.info("Conversion dispatcher started with {} workers and a queue of {}", workers, queueCapacity);
+    }
+
+    /**
+     * Queues a conversion job for execution on a worker thread
+     *
+     * @throws ConversionQueueFullException if the queue has no room for the job
+     */
+    public void submit(String conversionId, Runnable job) {
+        try {
+            executor.execute(job);
+            log.debug("Queued conversion {} (queue depth: {})", conversionId, executor.getQueue().size());
+        } catch (RejectedExecutionException e) {
+            rejectedJobs.increment();
+            log.warn("Rejected conversion {}: job queue is full", conversionId);
+            throw new ConversionQueueFullException(retryAfterSeconds);
+        }
+    }
+
+    /**
+     * Queues a non-blocking conversion. At most {@code workers} reactive jobs are subscribed at once;
+     * they hold no thread while waiting on the network.
+     *
+     * @throws ConversionQueueFullException if the queue has no room for the job
+     */
+    public void submitReactive(String conversionId, Mono<Void> job) {
+        synchronized (this) {
+            if (runningReactiveJobs >= workers) {
+                if (pendingReactiveJobs.size() >= queueCapacity) {
+                    rejectedJobs.increment();
+                    log.warn("Rejected conversion {}: job queue is full", conversionId);
+                    throw new ConversionQueueFullException(retryAfterSeconds);
+                }
+                pendingReactiveJobs.add(job);
+                log.debug("Queued reactive conversion {} (queue depth: {})", conversionId, pendingReactiveJobs.size());
+                return;
+            }
+            runningReactiveJobs++;
+        }
+        startReactive(job);
+    }
+
+    private void startReactive(Mono<Void> job) {
+        job.doFinally(signal -> onReactiveJobFinished())
+                .subscribe(null, e -> log.error("Reactive conversion terminated with error: {}", e.getMessage(), e));
+    }
+
+    private void onReactiveJobFinished() {
+        Mono<Void> next;
+        synchronized (this) {
+            next = pendingReactiveJobs.poll();
+            if (next == null) {
+                runningReactiveJobs--;
+                return;
+            }
+        }
+        startReactive(next);
+    }
+
+    /**
+     * Number of conversions waiting for a worker
+     */
+    public synchronized int getQueueDepth() {
+        return executor.getQueue().size() + pendingReactiveJobs.size();
+    }
+
+    private synchronized int getRunningReactiveJobs() {
+        return runningReactiveJobs;
+    }
+
+    private synchronized int getPendingReactiveJobs() {
+        return pendingReactiveJobs.size();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,111 @@
+package com.playlist.converter.service;
+
+import com.playlist.converter.repository.ConversionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Write-behind progress counter for running conversions.
+ * Search threads only increment an in-memory counter; the count reaches the database through a
+ * single-column update, either on the periodic flush or once {@code flush-every-tracks} more tracks
+ * have been processed. The conversion entity itself is not rewritten.
+ */
+@Service
+public class ConversionProgressTracker {
+
+    private static final Logger log = LoggerFactory.getLogger(ConversionProgressTracker.class);
+
+    private final ConversionRepository conversionRepository;
+    private final int flushEveryTracks;
+    private final Map<String, Progress> running = new ConcurrentHashMap<>();
+
+    public ConversionProgressTracker(ConversionRepository conversionRepository,
+                                     @Value("${app.conversion.progress.flush-every-tracks:25}") int flushEveryTracks) {
+        this.conversionRepository = conversionRepository;
+        this.flushEveryTracks = Math.max(1, flushEveryTracks);
+    }
+
+    /**
+     * Starts tracking a conversion
+     */
+    public void start(String conversionId) {
+        running.put(conversionId, new Progress());
+    }
+
+    /**
+     * Counts one processed track and returns the new count; safe to call from any thread, never blocks
+     */
+    public int trackProcessed(String conversionId) {
+        Progress progress = running.get(conversionId);
+        if (progress == null) {
+            return 0;
+        }
+        int processed = progress.processed.incrementAndGet();
+        if (processed - progress.flushed >= flushEveryTracks) {
+            // Callers may be event loop threads; the JDBC update runs elsewhere
+            Schedulers.boundedElastic().schedule(() -> flush(conversionId, progress));
+        }
+        return processed;
+    }
+
+    /**
+     * Tracks processed so far, or 0 when the conversion is not running
+     */
+    public int getProcessed(String conversionId) {
+        Progress progress = running.get(conversionId);
+        return progress != null ? progress.processed.get() : 0;
+    }
+
+    /**
+     * Stops tracking a conversion and returns its final count, to be stored with the final save
+     */
+    public int finish(String conversionId) {
+        Progress progress = running.remove(conversionId);
+        return progress != null ? progress.processed.get() : 0;
+    }
+
+    /**
+     * Writes the counts that changed since the last flush
+     */
+    @Scheduled(fixedDelayString = "${app.conversion.progress.flush-interval-ms:1000}")
+    public void flushAll() {
+        running.forEach(this::flush);
+    }
+
+    private void flush(String conversionId, Progress progress) {
+        if (!progress.flushing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int processed = progress.processed.get();
+            if (processed > progress.flushed) {
+                conversionRepository.updateTracksProcessed(conversionId, processed);
+                progress.flushed = processed;
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not flush progress for conversion {}: {}", conversionId, e.getMessage());
+        } finally {
+            progress.flushing.set(false);
+        }
+    }
+
+    /**
+     * Counter of one running conversion
+     */
+    private static final class Progress {
+        private final AtomicInteger processed = new AtomicInteger();
+        private final AtomicBoolean flushing = new AtomicBoolean();
+        // Last count written to the database; only written while holding the flushing flag
+        private volatile int flushed;
+    }
+}
@@ -0,0 +1,106 @@
+package com.playlist.converter.service;
+
+import com.playlist.converter.model.ConversionResult;
+import com.playlist.converter.repository.ConversionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Periodically cleans up conversions that outlived {@code app.conversion.timeout-minutes}.
+ * Running conversions still going {@code grace-seconds} after their deadline are cancelled, which frees their
+ * worker. Conversions IN_PROGRESS in the database that no worker in this instance is running are moved to
+ * FAILED. Conversions left over from before this instance started are skipped while recovery is enabled,
+ * since {@link ConversionRecoveryService} re-enqueues them.
+ */
+@Service
+public class ConversionReaper {
+
+    private static final Logger log = LoggerFactory.getLogger(ConversionReaper.class);
+
+    private static final List<ConversionResult.ConversionStatus> RUNNING_STATUSES =
+            List.of(ConversionResult.ConversionStatus.IN_PROGRESS);
+
+    private final ConversionRepository conversionRepository;
+    private final ConversionService conversionService;
+    private final ConversionDeadlines deadlines;
+    private final Duration grace;
+    private final boolean recoveryEnabled;
+    private final int batchSize;
+    private final LocalDateTime instanceStartedAt = LocalDateTime.now();
+
+    private final Counter cancelledConversions;
+    private final Counter reapedConversions;
+
+    public ConversionReaper(ConversionRepository conversionRepository, ConversionService conversionService,
+                            ConversionDeadlines deadlines, MeterRegistry meterRegistry,
+                            @Value("${app.conversion.reaper.grace-seconds:60}") long graceSeconds,
+                            @Value("${app.conversion.recovery.enabled:true}") boolean recoveryEnabled,
+                            @Value("${app.conversion.recovery.batch-size:100}") int batchSize) {
+        this.conversionRepository = conversionRepository;
+        this.conversionService = conversionService;
+        this.deadlines = deadlines;
+        this.grace = Duration.ofSeconds(graceSeconds);
+        this.recoveryEnabled = recoveryEnabled;
+        this.batchSize = Math.max(1, batchSize);
+
+        this.cancelledConversions = Counter.builder("conversion.reaper.cancelled")
+                .description("Running conversions cancelled after missing their deadline")
+                .register(meterRegistry);
+        this.reapedConversions = Counter.builder("conversion.reaper.failed")
+                .description("Stuck IN_PROGRESS conversions moved to FAILED")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.conversion.reaper.interval-ms:60000}")
+    public void reap() {
+        // Stuck rows first: a conversion cancelled below fails itself and must not be reaped while it does
+        reapStuck();
+        int cancelled = deadlines.cancelOverdue(grace);
+        if (cancelled > 0) {
+            cancelledConversions.increment(cancelled);
+            log.warn("Cancelled {} conversions running past their deadline", cancelled);
+        }
+    }
+
+    /**
+     * Fails IN_PROGRESS conversions started longer ago than the timeout plus grace that nothing is running
+     */
+    void reapStuck() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(deadlines.getTimeout()).minus(grace);
+        PageRequest pageRequest = PageRequest.of(0, batchSize);
+        List<ConversionResult> page = conversionRepository.findByStatusInAndCreatedAtBeforeOrderByCreatedAtAscIdAsc(
+                RUNNING_STATUSES, cutoff, pageRequest);
+        while (!page.isEmpty()) {
+            for (ConversionResult conversion : page) {
+                if (isStuck(conversion, cutoff)) {
+                    conversionService.failStuckConversion(conversion);
+                    reapedConversions.increment();
+                }
+            }
+            ConversionResult last = page.get(page.size() - 1);
+            page = conversionRepository.findByStatusInAndCreatedAtBeforeAfter(RUNNING_STATUSES, cutoff,
+                    last.getCreatedAt(), last.getId(), pageRequest);
+        }
+    }
+
+    private boolean isStuck(ConversionResult conversion, LocalDateTime cutoff) {
+        if (deadlines.isRunning(conversion.getConversionId())) {
+            return false;
+        }
+        if (recoveryEnabled && conversion.getCreatedAt().isBefore(instanceStartedAt)) {
+            return false;
+        }
+        // A resumed or recovered conversion is judged by its latest run, not by when it was submitted
+        return conversion.getStartedAt() == null || conversion.getStartedAt().isBefore(cutoff);
+    }
+}
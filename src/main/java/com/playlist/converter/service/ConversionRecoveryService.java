@@ -0,0 +1,116 @@
+package com.playlist.converter.service;
+
+import com.playlist.converter.exception.ConversionQueueFullException;
+import com.playlist.converter.model.ConversionResult;
+import com.playlist.converter.repository.ConversionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Re-enqueues conversions orphaned by a restart.
+ * With a persistent database (profile {@code persistent}), conversions that were PENDING or IN_PROGRESS when the
+ * previous instance stopped are still in that state but nothing is running them. Once the application is ready
+ * they are handed to {@link ConversionService#recoverConversion} oldest first. When the job queue fills up, or a
+ * user has not logged in again yet (access tokens are not persisted), the rest are retried on the next pass.
+ */
+@Service
+public class ConversionRecoveryService {
+
+    private static final Logger log = LoggerFactory.getLogger(ConversionRecoveryService.class);
+
+    private static final List<ConversionResult.ConversionStatus> INTERRUPTED_STATUSES = List.of(
+            ConversionResult.ConversionStatus.PENDING,
+            ConversionResult.ConversionStatus.IN_PROGRESS);
+
+    private final ConversionRepository conversionRepository;
+    private final ConversionService conversionService;
+    private final OAuth2TokenService oAuth2TokenService;
+    private final boolean enabled;
+    private final int batchSize;
+
+    // Everything created before this instance started and still running belongs to a previous instance
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    // Orphans this instance has already re-enqueued
+    private final Set<String> recovered = ConcurrentHashMap.newKeySet();
+    private volatile boolean outstanding;
+
+    public ConversionRecoveryService(ConversionRepository conversionRepository, ConversionService conversionService,
+                                     OAuth2TokenService oAuth2TokenService,
+                                     @Value("${app.conversion.recovery.enabled:true}") boolean enabled,
+                                     @Value("${app.conversion.recovery.batch-size:100}") int batchSize) {
+        this.conversionRepository = conversionRepository;
+        this.conversionService = conversionService;
+        this.oAuth2TokenService = oAuth2TokenService;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            outstanding = true;
+            recoverInterrupted();
+        }
+    }
+
+    /**
+     * Retries orphans left over by an earlier pass
+     */
+    @Scheduled(fixedDelayString = "${app.conversion.recovery.retry-interval-ms:30000}")
+    public void retryOutstanding() {
+        if (outstanding) {
+            recoverInterrupted();
+        }
+    }
+
+    /**
+     * One recovery pass over the orphaned conversions, in pages of {@code batch-size}
+     */
+    synchronized void recoverInterrupted() {
+        int enqueued = 0;
+        int waiting = 0;
+        List<ConversionResult> page = conversionRepository.findByStatusInAndCreatedAtBeforeOrderByCreatedAtAscIdAsc(
+                INTERRUPTED_STATUSES, startedAt, PageRequest.of(0, batchSize));
+        try {
+            while (!page.isEmpty()) {
+                for (ConversionResult conversion : page) {
+                    if (recovered.contains(conversion.getConversionId())) {
+                        continue;
+                    }
+                    if (!oAuth2TokenService.hasValidToken(conversion.getSpotifyUserId())) {
+                        waiting++;
+                        continue;
+                    }
+                    conversionService.recoverConversion(conversion);
+                    recovered.add(conversion.getConversionId());
+                    enqueued++;
+                }
+                ConversionResult last = page.get(page.size() - 1);
+                page = conversionRepository.findByStatusInAndCreatedAtBeforeAfter(INTERRUPTED_STATUSES, startedAt,
+                        last.getCreatedAt(), last.getId(), PageRequest.of(0, batchSize));
+            }
+            outstanding = waiting > 0;
+        } catch (ConversionQueueFullException e) {
+            outstanding = true;
+            log.info("Job queue full during recovery; remaining conversions are retried later");
+        }
+
+        if (enqueued > 0 || waiting > 0) {
+            log.info("Recovered {} interrupted conversions; {} wait for their user to log in again", enqueued, waiting);
+        }
+        if (!outstanding) {
+            recovered.clear();
+        }
+    }
+}
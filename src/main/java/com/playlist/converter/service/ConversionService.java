@@ -1,19 +1,47 @@
 package com.playlist.converter.service;
 
+import com.playlist.converter.dto.ConversionProgressEvent;
+import com.playlist.converter.dto.ConversionPage;
 import com.playlist.converter.dto.ConversionRequest;
+import com.playlist.converter.dto.ConversionSummary;
+import com.playlist.converter.dto.PageCursor;
+import com.playlist.converter.dto.TrackNamePage;
+import com.playlist.converter.exception.ConversionQueueFullException;
+import com.playlist.converter.exception.ConversionTimeoutException;
 import com.playlist.converter.model.ConversionResult;
+import com.playlist.converter.model.ConversionTrack;
 import com.playlist.converter.model.Playlist;
+import com.playlist.converter.model.PlaylistSyncTrack;
 import com.playlist.converter.model.Track;
+import com.playlist.converter.model.TrackMatch;
 import com.playlist.converter.repository.ConversionRepository;
+import com.playlist.converter.service.ConversionCheckpointService.Checkpoints;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 /**
  * Service for managing playlist conversion operations
@@ -21,23 +49,72 @@ import java.util.UUID;
 @Service
 public class ConversionService {
     
+    private static final int MAX_PAGE_SIZE = 100;
+    // Spotify accepts at most 100 tracks per add request
+    private static final int PLAYLIST_BATCH_SIZE = 100;
+    // Tracks per add call when the playlist is filled after matching; large enough for SpotifyService to write them
+    // as concurrent batches, and it reports each one that lands, so the checkpoint still advances a batch at a time
+    private static final int PLAYLIST_WRITE_CHUNK = 2000;
+    
     private static final Logger log = LoggerFactory.getLogger(ConversionService.class);
     
     private final YouTubeService youTubeService;
     private final SpotifyService spotifyService;
     private final ConversionRepository conversionRepository;
     private final OAuth2TokenService oAuth2TokenService;
+    private final TrackMatchCache trackMatchCache;
+    private final ConversionJobDispatcher jobDispatcher;
+    private final ConversionProgressTracker progressTracker;
+    private final ConversionEventBroadcaster eventBroadcaster;
+    private final ConversionStatusRegistry statusRegistry;
+    private final ConversionCheckpointService checkpointService;
+    private final ConversionDeadlines deadlines;
+    private final PlaylistSyncService playlistSyncService;
+    private final Scheduler searchScheduler;
+    private final int searchConcurrency;
+    private final Semaphore searchPermits;
+    private final boolean reactivePipeline;
+    private final int maxTracks;
+    private final LocalDateTime instanceStartedAt = LocalDateTime.now();
+    private final boolean incrementalAppend;
     
     public ConversionService(YouTubeService youTubeService, SpotifyService spotifyService, 
-                           ConversionRepository conversionRepository, OAuth2TokenService oAuth2TokenService) {
+                           ConversionRepository conversionRepository, OAuth2TokenService oAuth2TokenService,
+                           TrackMatchCache trackMatchCache, ConversionJobDispatcher jobDispatcher,
+                           ConversionProgressTracker progressTracker, ConversionEventBroadcaster eventBroadcaster,
+                           ConversionStatusRegistry statusRegistry, ConversionCheckpointService checkpointService,
+                           ConversionDeadlines deadlines, PlaylistSyncService playlistSyncService,
+                           @Qualifier("trackSearchScheduler") Scheduler searchScheduler,
+                           @Value("${app.conversion.search-concurrency:8}") int searchConcurrency,
+                           @Value("${app.conversion.max-concurrent-searches:64}") int maxConcurrentSearches,
+                           @Value("${app.conversion.pipeline:blocking}") String pipeline,
+                           @Value("${app.conversion.max-tracks:10000}") int maxTracks,
+                           @Value("${app.conversion.playlist-append:incremental}") String playlistAppend) {
         this.youTubeService = youTubeService;
         this.spotifyService = spotifyService;
         this.conversionRepository = conversionRepository;
         this.oAuth2TokenService = oAuth2TokenService;
+        this.trackMatchCache = trackMatchCache;
+        this.jobDispatcher = jobDispatcher;
+        this.progressTracker = progressTracker;
+        this.eventBroadcaster = eventBroadcaster;
+        this.statusRegistry = statusRegistry;
+        this.checkpointService = checkpointService;
+        this.deadlines = deadlines;
+        this.playlistSyncService = playlistSyncService;
+        this.searchScheduler = searchScheduler;
+        this.searchConcurrency = Math.max(1, searchConcurrency);
+        // Caps searches across all running conversions, however many workers there are
+        this.searchPermits = new Semaphore(Math.max(1, maxConcurrentSearches));
+        this.reactivePipeline = "reactive".equalsIgnoreCase(pipeline);
+        this.maxTracks = Math.max(1, maxTracks);
+        this.incrementalAppend = !"deferred".equalsIgnoreCase(playlistAppend);
     }
     
     /**
      * Initiates a playlist conversion process
+     *
+     * @throws ConversionQueueFullException if no worker or queue slot is available
      */
     public String initiateConversion(ConversionRequest request) {
         String conversionId = UUID.randomUUID().toString();
@@ -47,30 +124,197 @@ public class ConversionService {
         conversion.setConversionId(conversionId);
         conversion.setYoutubePlaylistUrl(request.getYoutubePlaylistUrl());
         conversion.setSpotifyUserId(request.getSpotifyUserId());
+        conversion.setPlaylistName(request.getPlaylistName());
+        conversion.setPlaylistDescription(request.getPlaylistDescription());
+        conversion.setIsPublic(request.getIsPublic());
         conversion.setStatus(ConversionResult.ConversionStatus.PENDING);
+        conversion.setTracksProcessed(0);
         
         conversionRepository.save(conversion);
         
-        // Start async conversion
-        performConversionAsync(conversionId, request);
+        // Hand the conversion to the dispatcher; the request thread returns immediately
+        try {
+            enqueue(conversion, request);
+        } catch (ConversionQueueFullException e) {
+            conversionRepository.delete(conversion);
+            throw e;
+        }
         
         return conversionId;
     }
     
     /**
-     * Performs the actual conversion asynchronously
+     * Re-enqueues a conversion that was PENDING or IN_PROGRESS when a previous instance stopped.
+     * It continues from its last checkpoint with the options it was submitted with.
+     *
+     * The conversion is claimed first, so one that was resumed or recovered in the meantime is not queued twice.
+     *
+     * @throws ConversionQueueFullException if no worker or queue slot is available; the conversion is left PENDING
+     *         and a later recovery pass can claim it again
+     */
+    public void recoverConversion(ConversionResult conversion) {
+        LocalDateTime previousStart = conversion.getStartedAt();
+        LocalDateTime queuedAt = LocalDateTime.now();
+        if (conversionRepository.claimInterrupted(conversion.getConversionId(), List.of(
+                        ConversionResult.ConversionStatus.PENDING, ConversionResult.ConversionStatus.IN_PROGRESS),
+                ConversionResult.ConversionStatus.PENDING, instanceStartedAt, queuedAt) == 0) {
+            log.info("Conversion {} was already re-enqueued", conversion.getConversionId());
+            return;
+        }
+        log.info("Re-enqueuing interrupted conversion {} (was {})", conversion.getConversionId(), conversion.getStatus());
+        conversion.setStartedAt(queuedAt);
+        try {
+            requeue(conversion);
+        } catch (ConversionQueueFullException e) {
+            conversion.setStartedAt(previousStart);
+            conversionRepository.save(conversion);
+            throw e;
+        }
+    }
+    
+    /**
+     * Runs a failed conversion again from its last checkpoint: tracks already searched are not searched
+     * again, and tracks already added to its Spotify playlist are not added again.
+     *
+     * The conversion is claimed by moving it from FAILED to PENDING in one update, so concurrent resumes
+     * queue it once.
+     *
+     * @throws IllegalStateException if the conversion has not failed, or another request resumed it first
+     * @throws ConversionQueueFullException if no worker or queue slot is available; the conversion stays FAILED
      */
-    @Async
-    public void performConversionAsync(String conversionId, ConversionRequest request) {
+    public void resumeConversion(ConversionResult conversion) {
+        if (conversion.getStatus() != ConversionResult.ConversionStatus.FAILED) {
+            throw new IllegalStateException("Only failed conversions can be resumed; conversion "
+                    + conversion.getConversionId() + " is " + conversion.getStatus());
+        }
+        LocalDateTime previousStart = conversion.getStartedAt();
+        LocalDateTime queuedAt = LocalDateTime.now();
+        if (conversionRepository.updateStatusIf(conversion.getConversionId(), ConversionResult.ConversionStatus.FAILED,
+                ConversionResult.ConversionStatus.PENDING, queuedAt) == 0) {
+            throw new IllegalStateException("Conversion " + conversion.getConversionId() + " is already being resumed");
+        }
+        log.info("Resuming conversion {}", conversion.getConversionId());
+        String errorMessage = conversion.getErrorMessage();
+        LocalDateTime completedAt = conversion.getCompletedAt();
+        Integer tracksProcessed = conversion.getTracksProcessed();
+        conversion.setStartedAt(queuedAt);
+        conversion.setErrorMessage(null);
+        conversion.setCompletedAt(null);
+        try {
+            requeue(conversion);
+        } catch (ConversionQueueFullException e) {
+            conversion.setStatus(ConversionResult.ConversionStatus.FAILED);
+            conversion.setStartedAt(previousStart);
+            conversion.setErrorMessage(errorMessage);
+            conversion.setCompletedAt(completedAt);
+            conversion.setTracksProcessed(tracksProcessed);
+            conversionRepository.save(conversion);
+            throw e;
+        }
+    }
+    
+    /**
+     * Starts a sync of a completed conversion's Spotify playlist with the current content of its YouTube
+     * playlist. The sync is a conversion of its own that searches only videos added since the playlist was
+     * last converted or synced, and adds or removes only the difference.
+     *
+     * @return ID of the sync run
+     * @throws IllegalStateException if the conversion has not completed, has nothing to sync against, or its
+     *         playlist is already being written to
+     * @throws ConversionQueueFullException if no worker or queue slot is available
+     */
+    public String syncConversion(ConversionResult source) {
+        if (source.getStatus() != ConversionResult.ConversionStatus.COMPLETED || source.getSpotifyPlaylistId() == null) {
+            throw new IllegalStateException("Only completed conversions can be synced; conversion "
+                    + source.getConversionId() + " is " + source.getStatus());
+        }
+        if (!playlistSyncService.hasBaseline(source)) {
+            throw new IllegalStateException("Conversion " + source.getConversionId()
+                    + " completed before syncing was available; convert the playlist again to sync it");
+        }
+        if (conversionRepository.existsBySpotifyPlaylistIdAndStatusIn(source.getSpotifyPlaylistId(), List.of(
+                ConversionResult.ConversionStatus.PENDING, ConversionResult.ConversionStatus.IN_PROGRESS))) {
+            throw new IllegalStateException("Spotify playlist " + source.getSpotifyPlaylistId() + " is already being updated");
+        }
+        
+        ConversionResult sync = new ConversionResult();
+        sync.setConversionId(UUID.randomUUID().toString());
+        sync.setYoutubePlaylistUrl(source.getYoutubePlaylistUrl());
+        sync.setSpotifyUserId(source.getSpotifyUserId());
+        sync.setPlaylistName(source.getPlaylistName());
+        sync.setPlaylistDescription(source.getPlaylistDescription());
+        sync.setIsPublic(source.getIsPublic());
+        sync.setSpotifyPlaylistId(source.getSpotifyPlaylistId());
+        sync.setSpotifyPlaylistUrl(source.getSpotifyPlaylistUrl());
+        sync.setSyncOf(source.getConversionId());
+        sync.setStatus(ConversionResult.ConversionStatus.PENDING);
+        sync.setTracksProcessed(0);
+        sync.setTracksAdded(0);
+        conversionRepository.save(sync);
+        
+        try {
+            enqueue(sync, new ConversionRequest(sync.getYoutubePlaylistUrl(), sync.getSpotifyUserId(),
+                    sync.getPlaylistName(), sync.getPlaylistDescription(), sync.getIsPublic()));
+        } catch (ConversionQueueFullException e) {
+            conversionRepository.delete(sync);
+            throw e;
+        }
+        log.info("Syncing Spotify playlist {} of conversion {} as {}",
+                source.getSpotifyPlaylistId(), source.getConversionId(), sync.getConversionId());
+        return sync.getConversionId();
+    }
+    
+    private void requeue(ConversionResult conversion) {
+        ConversionRequest request = new ConversionRequest(conversion.getYoutubePlaylistUrl(), conversion.getSpotifyUserId(),
+                conversion.getPlaylistName(), conversion.getPlaylistDescription(), conversion.getIsPublic());
+        
+        conversion.setStatus(ConversionResult.ConversionStatus.PENDING);
+        conversion.setTracksProcessed(0);
+        conversionRepository.save(conversion);
+        enqueue(conversion, request);
+    }
+    
+    private void enqueue(ConversionResult conversion, ConversionRequest request) {
+        String conversionId = conversion.getConversionId();
+        eventBroadcaster.open(conversionId);
+        publishStatus(conversion, "Conversion is pending and will start shortly");
+        try {
+            if (conversion.isSync()) {
+                // Syncs are small by design; they run on the blocking pipeline whichever one is configured
+                jobDispatcher.submit(conversionId, () -> performSync(conversionId, request));
+            } else if (reactivePipeline) {
+                jobDispatcher.submitReactive(conversionId, performConversionReactive(conversionId, request));
+            } else {
+                jobDispatcher.submit(conversionId, () -> performConversion(conversionId, request));
+            }
+        } catch (ConversionQueueFullException e) {
+            eventBroadcaster.close(conversionId);
+            statusRegistry.remove(conversionId);
+            throw e;
+        }
+    }
+    
+    /**
+     * Performs the actual conversion; runs on a conversion worker thread
+     */
+    public void performConversion(String conversionId, ConversionRequest request) {
         ConversionResult conversion = conversionRepository.findByConversionId(conversionId)
                 .orElseThrow(() -> new RuntimeException("Conversion not found: " + conversionId));
+        ConversionDeadline deadline = ConversionDeadline.none();
         
         try {
             log.info("Starting conversion for ID: {}", conversionId);
             
             // Update status to IN_PROGRESS
             conversion.setStatus(ConversionResult.ConversionStatus.IN_PROGRESS);
+            conversion.setStartedAt(LocalDateTime.now());
             conversionRepository.save(conversion);
+            // Every upstream call below is bounded by the deadline; the interrupt is the reaper's last resort
+            deadline = deadlines.start(conversionId, Thread.currentThread()::interrupt);
+            progressTracker.start(conversionId);
+            publishStatus(conversion, "Conversion is currently in progress");
+            // Searches a previous attempt already made; empty for a new conversion
+            Checkpoints checkpoints = checkpointService.load(conversionId, tracksAdded(conversion));
             
             // Step 1: Extract YouTube playlist ID
             String playlistId = request.extractPlaylistId();
@@ -79,112 +323,800 @@ public class ConversionService {
             }
             
             // Step 2: Fetch YouTube playlist info
-            Playlist youtubePlaylist = youTubeService.getPlaylistInfo(playlistId);
+            Playlist youtubePlaylist = deadline.bound(youTubeService.getPlaylistInfoReactive(playlistId)).block();
             log.info("YouTube playlist info: {} tracks", youtubePlaylist.getTrackCount());
             
-            // Step 3: Fetch YouTube tracks
-            List<Track> youtubeTracks = youTubeService.getPlaylistTracks(playlistId);
-            conversion.setTotalTracks(youtubeTracks.size());
+            // Item count includes deleted/private videos; refined once the tracks have been streamed
+            conversion.setTotalTracks(expectedTracks(youtubePlaylist));
             conversionRepository.save(conversion);
+            publishStatus(conversion, null);
             
-            // Step 4: Get Spotify access token
-            String accessToken = oAuth2TokenService.getAccessToken(request.getSpotifyUserId());
-            if (accessToken == null) {
-                throw new RuntimeException("No valid Spotify access token found for user: " + request.getSpotifyUserId());
-            }
-            
-            // Step 5: Search for tracks on Spotify
-            List<String> matchedTrackUris = new ArrayList<>();
-            List<String> matchedTrackNames = new ArrayList<>();
-            List<String> skippedTrackNames = new ArrayList<>();
+            // Step 3: Get Spotify access token
+            String accessToken = requireAccessToken(request);
             
-            for (Track youtubeTrack : youtubeTracks) {
-                String cleanTitle = youTubeService.cleanVideoTitle(youtubeTrack.getTitle());
-                String searchQuery = spotifyService.prepareSearchQuery(cleanTitle);
+            Playlist spotifyPlaylist;
+            MatchSummary summary;
+            if (incrementalAppend) {
+                // Step 4: Create the Spotify playlist up front, unless an earlier attempt already did
+                spotifyPlaylist = deadline.bound(targetPlaylist(conversion, request, youtubePlaylist, accessToken)).block();
                 
-                Track spotifyTrack = spotifyService.searchTrack(searchQuery, accessToken);
+                // Step 5: Stream YouTube tracks through the search stage into the playlist, a batch as soon as it fills
+                summary = deadline.bound(appendWhileMatching(conversion, spotifyPlaylist,
+                        searchTracks(playlistTracks(playlistId), accessToken, checkpoints,
+                                match -> trackMatched(conversion, checkpoints, match)),
+                        accessToken)).block();
+            } else {
+                // Step 4: Stream YouTube tracks into the Spotify search stage; searching starts with the first page
+                List<TrackMatch> matches = matchTracks(playlistTracks(playlistId), accessToken,
+                        checkpoints, deadline, match -> trackMatched(conversion, checkpoints, match));
+                summary = summarize(matches);
+                checkpointService.flush(conversionId);
                 
-                if (spotifyTrack != null) {
-                    matchedTrackUris.add(spotifyService.getTrackUri(spotifyTrack.getId()));
-                    matchedTrackNames.add(spotifyTrack.getArtist() + " - " + spotifyTrack.getTitle());
-                    log.debug("Matched: {} -> {}", youtubeTrack.getTitle(), spotifyTrack.getTitle());
-                } else {
-                    skippedTrackNames.add(youtubeTrack.getTitle());
-                    log.debug("Skipped: {}", youtubeTrack.getTitle());
-                }
+                // Step 5: Create the Spotify playlist, unless an earlier attempt already did
+                spotifyPlaylist = deadline.bound(targetPlaylist(conversion, request, youtubePlaylist, accessToken)).block();
+                
+                // Step 6: Add the tracks not added yet, a chunk at a time
+                addTracks(conversion, spotifyPlaylist, summary.trackUris, accessToken, deadline);
             }
             
-            // Step 6: Create Spotify playlist
-            String playlistName = request.getPlaylistName() != null ? 
-                    request.getPlaylistName() : 
-                    "Converted from YouTube: " + youtubePlaylist.getName();
-            
-            String playlistDescription = request.getPlaylistDescription() != null ?
-                    request.getPlaylistDescription() :
-                    "Playlist converted from YouTube using Playlist Converter";
-            
-            boolean isPublic = request.getIsPublic() != null ? request.getIsPublic() : false;
-            
-            Playlist spotifyPlaylist = spotifyService.createPlaylist(
-                    request.getSpotifyUserId(),
-                    playlistName,
-                    playlistDescription,
-                    isPublic,
-                    accessToken
-            );
-            
-            // Step 7: Add tracks to Spotify playlist
-            if (!matchedTrackUris.isEmpty()) {
-                boolean success = spotifyService.addTracksToPlaylist(
-                        spotifyPlaylist.getId(),
-                        matchedTrackUris,
-                        accessToken
-                );
-                
-                if (!success) {
-                    throw new RuntimeException("Failed to add tracks to Spotify playlist");
+            // Step 7: Update conversion result
+            completeConversion(conversion, spotifyPlaylist, summary);
+            
+        } catch (Exception e) {
+            // Clears an interrupt from the reaper so the failure can still be saved
+            Thread.interrupted();
+            failConversion(conversion, deadline.isExceeded() ? deadline.exceeded() : e);
+        } finally {
+            deadlines.finish(conversionId);
+            // An interrupt that raced with finishing must not reach the worker's next job
+            Thread.interrupted();
+        }
+    }
+    
+    /**
+     * Performs a sync run; runs on a conversion worker thread. Only videos without a mapping for the
+     * playlist pair are enriched and searched, matches among them are appended to the Spotify playlist, and
+     * tracks whose videos left the YouTube playlist are removed from it. Every step can be re-run after a
+     * failure: added tracks are checkpointed like a conversion's, and removing a track twice is a no-op.
+     */
+    public void performSync(String conversionId, ConversionRequest request) {
+        ConversionResult conversion = conversionRepository.findByConversionId(conversionId)
+                .orElseThrow(() -> new RuntimeException("Conversion not found: " + conversionId));
+        ConversionDeadline deadline = ConversionDeadline.none();
+        
+        try {
+            log.info("Starting sync for ID: {}", conversionId);
+            
+            conversion.setStatus(ConversionResult.ConversionStatus.IN_PROGRESS);
+            conversion.setStartedAt(LocalDateTime.now());
+            conversionRepository.save(conversion);
+            deadline = deadlines.start(conversionId, Thread.currentThread()::interrupt);
+            progressTracker.start(conversionId);
+            publishStatus(conversion, "Sync is currently in progress");
+            Checkpoints checkpoints = checkpointService.load(conversionId, tracksAdded(conversion));
+            
+            String playlistId = request.extractPlaylistId();
+            if (playlistId == null) {
+                throw new RuntimeException("Invalid YouTube playlist URL");
+            }
+            String spotifyPlaylistId = conversion.getSpotifyPlaylistId();
+            String accessToken = requireAccessToken(request);
+            Map<String, PlaylistSyncTrack> synced = playlistSyncService.load(spotifyPlaylistId, playlistId);
+            
+            // Step 1: Read the current membership; only videos new to the pair are enriched
+            List<Track> members = deadline.bound(youTubeService
+                    .streamPlaylistTracks(playlistId, videoId -> !synced.containsKey(videoId))
+                    .take(maxTracks)
+                    .collectList()).block();
+            Set<String> memberIds = new HashSet<>();
+            List<Track> newTracks = new ArrayList<>();
+            for (Track track : members) {
+                if (memberIds.add(track.getId()) && !synced.containsKey(track.getId())) {
+                    newTracks.add(track);
                 }
             }
+            conversion.setTotalTracks(newTracks.size());
+            conversionRepository.save(conversion);
+            publishStatus(conversion, null);
+            log.info("Sync of {}: {} videos, {} new", spotifyPlaylistId, memberIds.size(), newTracks.size());
             
-            // Step 8: Update conversion result
-            conversion.setStatus(ConversionResult.ConversionStatus.COMPLETED);
-            conversion.setSpotifyPlaylistId(spotifyPlaylist.getId());
-            conversion.setSpotifyPlaylistUrl(spotifyPlaylist.getExternalUrl());
-            conversion.setMatchedTracks(matchedTrackNames.size());
-            conversion.setSkippedTracks(skippedTrackNames.size());
-            conversion.setMatchedTrackNames(matchedTrackNames);
-            conversion.setSkippedTrackNames(skippedTrackNames);
-            conversion.setCompletedAt(LocalDateTime.now());
+            // Step 2: Search the new videos and append their matches
+            List<TrackMatch> matches = matchTracks(Flux.fromIterable(newTracks), accessToken, checkpoints, deadline,
+                    match -> trackMatched(conversion, checkpoints, match));
+            MatchSummary summary = summarize(matches);
+            checkpointService.flush(conversionId);
             
-            conversionRepository.save(conversion);
+            Playlist spotifyPlaylist = existingPlaylist(conversion);
+            addTracks(conversion, spotifyPlaylist, summary.trackUris, accessToken, deadline);
+            // Videos whose search failed stay out of the baseline, so the next sync searches them again
+            List<PlaylistSyncTrack> added = new ArrayList<>();
+            for (TrackMatch match : matches) {
+                if (match.isSearchFailed()) {
+                    continue;
+                }
+                added.add(new PlaylistSyncTrack(playlistId, spotifyPlaylistId, match.getYoutubeTrack().getId(),
+                        match.isMatched() ? spotifyService.getTrackUri(match.getSpotifyTrack().getId()) : null));
+            }
+            playlistSyncService.recordAdded(conversion, added);
+            
+            // Step 3: Remove tracks whose videos left the YouTube playlist, unless a remaining video maps to them too
+            Set<String> keptUris = new HashSet<>(summary.trackUris);
+            List<String> goneVideoIds = new ArrayList<>();
+            for (PlaylistSyncTrack track : synced.values()) {
+                if (memberIds.contains(track.getVideoId())) {
+                    keptUris.add(track.getSpotifyUri());
+                } else {
+                    goneVideoIds.add(track.getVideoId());
+                }
+            }
+            Set<String> removedUris = new LinkedHashSet<>();
+            for (String videoId : goneVideoIds) {
+                String uri = synced.get(videoId).getSpotifyUri();
+                if (uri != null && !keptUris.contains(uri)) {
+                    removedUris.add(uri);
+                }
+            }
+            if (!removedUris.isEmpty()) {
+                Boolean removed = deadline.bound(spotifyService.removeTracksFromPlaylistReactive(
+                        spotifyPlaylistId, new ArrayList<>(removedUris), accessToken)).block();
+                if (!Boolean.TRUE.equals(removed)) {
+                    throw new RuntimeException("Failed to remove tracks from Spotify playlist");
+                }
+            }
+            playlistSyncService.recordRemoved(spotifyPlaylistId, playlistId, goneVideoIds);
             
-            log.info("Conversion completed successfully: {} (matched: {}, skipped: {})", 
-                    conversionId, matchedTrackNames.size(), skippedTrackNames.size());
+            // Step 4: Update the sync result
+            conversion.setTracksAdded(summary.trackUris.size());
+            conversion.setTracksRemoved(removedUris.size());
+            completeConversion(conversion, spotifyPlaylist, summary);
             
         } catch (Exception e) {
-            log.error("Conversion failed for ID {}: {}", conversionId, e.getMessage(), e);
+            // Clears an interrupt from the reaper so the failure can still be saved
+            Thread.interrupted();
+            failConversion(conversion, deadline.isExceeded() ? deadline.exceeded() : e);
+        } finally {
+            deadlines.finish(conversionId);
+            // An interrupt that raced with finishing must not reach the worker's next job
+            Thread.interrupted();
+        }
+    }
+    
+    /**
+     * Non-blocking variant of {@link #performConversion}. YouTube and Spotify calls are composed as
+     * Mono/Flux stages, so a conversion holds no thread while waiting on the network; repository and
+     * match cache access is blocking JDBC and runs on the bounded elastic scheduler.
+     */
+    public Mono<Void> performConversionReactive(String conversionId, ConversionRequest request) {
+        return blocking(() -> conversionRepository.findByConversionId(conversionId)
+                        .orElseThrow(() -> new RuntimeException("Conversion not found: " + conversionId)))
+                .flatMap(conversion -> runConversionReactive(conversion, request)
+                        .onErrorResume(e -> blocking(() -> failConversion(conversion, e))))
+                .doFinally(signal -> deadlines.finish(conversionId))
+                .then();
+    }
+    
+    private Mono<ConversionResult> runConversionReactive(ConversionResult conversion, ConversionRequest request) {
+        log.info("Starting reactive conversion for ID: {}", conversion.getConversionId());
+        conversion.setStatus(ConversionResult.ConversionStatus.IN_PROGRESS);
+        conversion.setStartedAt(LocalDateTime.now());
+        
+        return blocking(() -> {
+            conversionRepository.save(conversion);
+            return checkpointService.load(conversion.getConversionId(), tracksAdded(conversion));
+        }).flatMap(checkpoints -> {
+            // The timeout cancels every upstream call still in flight, so there is nothing left for the reaper to stop
+            ConversionDeadline deadline = deadlines.start(conversion.getConversionId(), () -> {});
+            return deadline.bound(runStagesReactive(conversion, request, checkpoints));
+        });
+    }
+    
+    private Mono<ConversionResult> runStagesReactive(ConversionResult conversion, ConversionRequest request,
+                                                     Checkpoints checkpoints) {
+        progressTracker.start(conversion.getConversionId());
+        publishStatus(conversion, "Conversion is currently in progress");
+        String playlistId = request.extractPlaylistId();
+        if (playlistId == null) {
+            return Mono.error(new RuntimeException("Invalid YouTube playlist URL"));
+        }
+        
+        return youTubeService.getPlaylistInfoReactive(playlistId).flatMap(youtubePlaylist -> {
+            log.info("YouTube playlist info: {} tracks", youtubePlaylist.getTrackCount());
+            conversion.setTotalTracks(expectedTracks(youtubePlaylist));
+            String accessToken = requireAccessToken(request);
+            Flux<TrackMatch> matches = matchTracksReactive(playlistTracks(playlistId), accessToken,
+                    checkpoints, match -> trackMatched(conversion, checkpoints, match));
             
-            // Update conversion with error
-            conversion.setStatus(ConversionResult.ConversionStatus.FAILED);
-            conversion.setErrorMessage(e.getMessage());
-            conversion.setCompletedAt(LocalDateTime.now());
+            Mono<ConversionResult> stages = incrementalAppend
+                    ? targetPlaylist(conversion, request, youtubePlaylist, accessToken)
+                            .flatMap(playlist -> appendWhileMatching(conversion, playlist, matches, accessToken)
+                                    .flatMap(summary -> blocking(() -> completeConversion(conversion, playlist, summary))))
+                    : matches.collectList()
+                            .map(this::summarize)
+                            .flatMap(summary -> blocking(() -> {
+                                        checkpointService.flush(conversion.getConversionId());
+                                        return conversion;
+                                    })
+                                    .then(targetPlaylist(conversion, request, youtubePlaylist, accessToken))
+                                    .flatMap(playlist -> addTracksReactive(conversion, playlist, summary, accessToken)
+                                            .then(blocking(() -> completeConversion(conversion, playlist, summary)))));
             
-            conversionRepository.save(conversion);
+            return blocking(() -> conversionRepository.save(conversion))
+                    .doOnSuccess(saved -> publishStatus(conversion, null))
+                    .then(stages);
+        });
+    }
+    
+    /**
+     * Adds the tracks not added yet, a chunk at a time, checkpointing tracksAdded as the chunk's batches land
+     */
+    private void addTracks(ConversionResult conversion, Playlist spotifyPlaylist, List<String> trackUris,
+                           String accessToken, ConversionDeadline deadline) {
+        for (int from = tracksAdded(conversion); from < trackUris.size(); from += PLAYLIST_WRITE_CHUNK) {
+            int to = Math.min(from + PLAYLIST_WRITE_CHUNK, trackUris.size());
+            deadline.bound(addBatch(conversion, spotifyPlaylist, trackUris.subList(from, to), from, accessToken)).block();
         }
     }
     
+    private Mono<Void> addTracksReactive(ConversionResult conversion, Playlist spotifyPlaylist, MatchSummary summary,
+                                         String accessToken) {
+        List<String> trackUris = summary.trackUris;
+        int added = tracksAdded(conversion);
+        int chunks = Math.max(0, (trackUris.size() - added + PLAYLIST_WRITE_CHUNK - 1) / PLAYLIST_WRITE_CHUNK);
+        return Flux.range(0, chunks)
+                .concatMap(chunk -> {
+                    int from = added + chunk * PLAYLIST_WRITE_CHUNK;
+                    int to = Math.min(from + PLAYLIST_WRITE_CHUNK, trackUris.size());
+                    return addBatch(conversion, spotifyPlaylist, trackUris.subList(from, to), from, accessToken);
+                })
+                .then();
+    }
+    
+    /**
+     * Adds matched tracks to the playlist while the search stage is still running. Each batch of
+     * {@link #PLAYLIST_BATCH_SIZE} URIs is sent as soon as it fills and the search stage waits while it is
+     * in flight, so only one batch of URIs is held at a time. Every search made so far is checkpointed
+     * before a batch is added, so a resume finds the same matches in front of {@code tracksAdded}.
+     */
+    Mono<MatchSummary> appendWhileMatching(ConversionResult conversion, Playlist spotifyPlaylist,
+                                           Flux<TrackMatch> matches, String accessToken) {
+        return Mono.defer(() -> {
+            MatchSummary summary = new MatchSummary();
+            // Tracks a previous attempt already added are the first matched tracks; they are not sent again
+            int alreadyAdded = tracksAdded(conversion);
+            AtomicInteger added = new AtomicInteger(alreadyAdded);
+            return matches
+                    .doOnNext(summary::add)
+                    .filter(TrackMatch::isMatched)
+                    .skip(alreadyAdded)
+                    .map(match -> spotifyService.getTrackUri(match.getSpotifyTrack().getId()))
+                    .buffer(PLAYLIST_BATCH_SIZE)
+                    .concatMap(batch -> {
+                        int from = added.getAndAdd(batch.size());
+                        return blocking(() -> {
+                                    checkpointService.flush(conversion.getConversionId());
+                                    return batch;
+                                })
+                                .flatMap(uris -> addBatch(conversion, spotifyPlaylist, uris, from, accessToken));
+                    }, 1)
+                    .then(Mono.fromCallable(() -> summary));
+        });
+    }
+    
+    /**
+     * Adds a batch or chunk of tracks that follows the first {@code alreadyAdded} matched tracks, checkpointing
+     * tracksAdded each time another of its batches is known to be in the playlist. A chunk that fails part way
+     * keeps the batches that landed before the failure, and tracks that landed out of order are checkpointed
+     * too, so a resume does not add them again.
+     */
+    private Mono<ConversionResult> addBatch(ConversionResult conversion, Playlist spotifyPlaylist, List<String> trackUris,
+                                            int alreadyAdded, String accessToken) {
+        return spotifyService.addTracksToPlaylistReactive(spotifyPlaylist.getId(), trackUris, accessToken,
+                        added -> blocking(() -> batchAdded(conversion, alreadyAdded + added)).then())
+                .flatMap(result -> {
+                    if (!result.isAdded()) {
+                        return Mono.<ConversionResult>error(new RuntimeException("Failed to add tracks to Spotify playlist"));
+                    }
+                    if (result == SpotifyService.PlaylistAppend.ADDED_OUT_OF_ORDER) {
+                        conversion.setPlaylistOutOfOrder(true);
+                    }
+                    return Mono.just(conversion);
+                });
+    }
+    
+    /**
+     * The conversion's Spotify playlist: the one an earlier attempt created, or a new one
+     */
+    private Mono<Playlist> targetPlaylist(ConversionResult conversion, ConversionRequest request, Playlist youtubePlaylist,
+                                          String accessToken) {
+        return Mono.defer(() -> conversion.getSpotifyPlaylistId() != null
+                ? Mono.just(existingPlaylist(conversion))
+                : spotifyService.createPlaylistReactive(
+                                request.getSpotifyUserId(),
+                                playlistName(request, youtubePlaylist),
+                                playlistDescription(request),
+                                isPublic(request),
+                                accessToken)
+                        .flatMap(created -> blocking(() -> playlistCreated(conversion, created))));
+    }
+    
+    /**
+     * Tracks of a YouTube playlist, at most {@code app.conversion.max-tracks}; paging stops once that many are read
+     */
+    private Flux<Track> playlistTracks(String playlistId) {
+        return youTubeService.streamPlaylistTracks(playlistId).take(maxTracks);
+    }
+    
+    private Integer expectedTracks(Playlist youtubePlaylist) {
+        Integer trackCount = youtubePlaylist.getTrackCount();
+        if (trackCount != null && trackCount > maxTracks) {
+            log.info("Converting the first {} of {} tracks", maxTracks, trackCount);
+            return maxTracks;
+        }
+        return trackCount;
+    }
+    
+    /**
+     * Persists the playlist created for a conversion, so a resumed conversion adds to it instead of creating another
+     */
+    private Playlist playlistCreated(ConversionResult conversion, Playlist spotifyPlaylist) {
+        conversion.setSpotifyPlaylistId(spotifyPlaylist.getId());
+        conversion.setSpotifyPlaylistUrl(spotifyPlaylist.getExternalUrl());
+        conversion.setTracksAdded(0);
+        conversionRepository.save(conversion);
+        statusRegistry.update(conversion);
+        return spotifyPlaylist;
+    }
+    
+    private static Playlist existingPlaylist(ConversionResult conversion) {
+        log.info("Continuing Spotify playlist {} after {} tracks", conversion.getSpotifyPlaylistId(), tracksAdded(conversion));
+        Playlist playlist = new Playlist();
+        playlist.setId(conversion.getSpotifyPlaylistId());
+        playlist.setExternalUrl(conversion.getSpotifyPlaylistUrl());
+        return playlist;
+    }
+    
+    /**
+     * Checkpoints a playlist batch: the first {@code tracksAdded} matched tracks are in the playlist
+     */
+    private ConversionResult batchAdded(ConversionResult conversion, int tracksAdded) {
+        conversion.setTracksAdded(tracksAdded);
+        conversionRepository.updateTracksAdded(conversion.getConversionId(), tracksAdded);
+        statusRegistry.update(conversion);
+        return conversion;
+    }
+    
+    private static int tracksAdded(ConversionResult conversion) {
+        return conversion.getTracksAdded() != null ? conversion.getTracksAdded() : 0;
+    }
+    
+    /**
+     * Searches Spotify for every YouTube track with up to {@code searchConcurrency} searches in flight.
+     * Matches are returned in playlist order regardless of which search completes first.
+     */
+    List<TrackMatch> matchTracks(List<Track> youtubeTracks, String accessToken) {
+        return matchTracks(Flux.fromIterable(youtubeTracks), accessToken);
+    }
+    
     /**
-     * Gets the status of a conversion
+     * Streaming variant of {@link #matchTracks(List, String)}: searches begin as soon as the
+     * first tracks are emitted, while later pages are still being fetched
+     */
+    List<TrackMatch> matchTracks(Flux<Track> youtubeTracks, String accessToken) {
+        return matchTracks(youtubeTracks, accessToken, match -> {});
+    }
+    
+    /**
+     * Streaming match stage that reports each matched track to {@code onTrackProcessed} as soon as it
+     * completes, in completion order
+     */
+    List<TrackMatch> matchTracks(Flux<Track> youtubeTracks, String accessToken, Consumer<TrackMatch> onTrackProcessed) {
+        return matchTracks(youtubeTracks, accessToken, Checkpoints.none(), onTrackProcessed);
+    }
+    
+    /**
+     * Streaming match stage that takes the outcome of tracks with a checkpoint from the checkpoint
+     * instead of searching again
+     */
+    List<TrackMatch> matchTracks(Flux<Track> youtubeTracks, String accessToken, Checkpoints checkpoints,
+                                 Consumer<TrackMatch> onTrackProcessed) {
+        return matchTracks(youtubeTracks, accessToken, checkpoints, ConversionDeadline.none(), onTrackProcessed);
+    }
+    
+    /**
+     * Streaming match stage bounded by a deadline; when it passes, searches still in flight are cancelled
+     */
+    List<TrackMatch> matchTracks(Flux<Track> youtubeTracks, String accessToken, Checkpoints checkpoints,
+                                 ConversionDeadline deadline, Consumer<TrackMatch> onTrackProcessed) {
+        return deadline.bound(searchTracks(youtubeTracks, accessToken, checkpoints, onTrackProcessed).collectList())
+                .block();
+    }
+    
+    /**
+     * The blocking search stage as a Flux of matches in playlist order; searches run on the search scheduler
+     */
+    private Flux<TrackMatch> searchTracks(Flux<Track> youtubeTracks, String accessToken,
+                                          Checkpoints checkpoints, Consumer<TrackMatch> onTrackProcessed) {
+        return youtubeTracks
+                .index()
+                .flatMapSequential(indexed -> Mono.fromCallable(() ->
+                                matchTrack(indexed.getT1().intValue(), indexed.getT2(), accessToken, checkpoints))
+                        .subscribeOn(searchScheduler)
+                        .doOnSuccess(onTrackProcessed), searchConcurrency);
+    }
+    
+    /**
+     * Non-blocking search stage: same ordering and concurrency as {@link #matchTracks(Flux, String)},
+     * but searches are WebClient Monos instead of blocked scheduler threads
+     */
+    Flux<TrackMatch> matchTracksReactive(Flux<Track> youtubeTracks, String accessToken) {
+        return matchTracksReactive(youtubeTracks, accessToken, match -> {});
+    }
+    
+    Flux<TrackMatch> matchTracksReactive(Flux<Track> youtubeTracks, String accessToken,
+                                         Consumer<TrackMatch> onTrackProcessed) {
+        return matchTracksReactive(youtubeTracks, accessToken, Checkpoints.none(), onTrackProcessed);
+    }
+    
+    Flux<TrackMatch> matchTracksReactive(Flux<Track> youtubeTracks, String accessToken,
+                                         Checkpoints checkpoints, Consumer<TrackMatch> onTrackProcessed) {
+        return youtubeTracks
+                .index()
+                .flatMapSequential(indexed ->
+                        matchTrackReactive(indexed.getT1().intValue(), indexed.getT2(), accessToken, checkpoints)
+                                .doOnSuccess(onTrackProcessed), searchConcurrency);
+    }
+    
+    /**
+     * Matches a single track, consulting its checkpoint and the match cache before searching Spotify
+     */
+    private TrackMatch matchTrack(int position, Track youtubeTrack, String accessToken,
+                                  Checkpoints checkpoints) throws InterruptedException {
+        TrackMatch checkpointed = checkpointed(position, youtubeTrack, checkpoints);
+        if (checkpointed != null) {
+            return checkpointed;
+        }
+        String searchQuery = searchQueryFor(youtubeTrack);
+        
+        TrackMatchCache.CachedMatch cached = trackMatchCache.get(youtubeTrack.getId());
+        if (cached != null) {
+            return new TrackMatch(position, youtubeTrack, searchQuery, cached.getTrack());
+        }
+        
+        Track spotifyTrack;
+        searchPermits.acquire();
+        try {
+            spotifyTrack = spotifyService.searchTrack(searchQuery, youtubeTrack.getDurationMs(), accessToken);
+        } catch (WebClientResponseException e) {
+            return searchFailed(position, youtubeTrack, searchQuery, e);
+        } finally {
+            searchPermits.release();
+        }
+        trackMatchCache.put(youtubeTrack.getId(), spotifyTrack);
+        return new TrackMatch(position, youtubeTrack, searchQuery, spotifyTrack);
+    }
+    
+    private Mono<TrackMatch> matchTrackReactive(int position, Track youtubeTrack, String accessToken,
+                                                Checkpoints checkpoints) {
+        TrackMatch checkpointed = checkpointed(position, youtubeTrack, checkpoints);
+        if (checkpointed != null) {
+            return Mono.just(checkpointed);
+        }
+        String searchQuery = searchQueryFor(youtubeTrack);
+        
+        return blocking(() -> Optional.ofNullable(trackMatchCache.get(youtubeTrack.getId())))
+                .flatMap(cached -> {
+                    if (cached.isPresent()) {
+                        return Mono.just(new TrackMatch(position, youtubeTrack, searchQuery, cached.get().getTrack()));
+                    }
+                    return spotifyService.searchTrackReactive(searchQuery, youtubeTrack.getDurationMs(), accessToken)
+                            .map(Optional::of)
+                            .defaultIfEmpty(Optional.empty())
+                            .flatMap(found -> blocking(() -> {
+                                trackMatchCache.put(youtubeTrack.getId(), found.orElse(null));
+                                return new TrackMatch(position, youtubeTrack, searchQuery, found.orElse(null));
+                            }))
+                            .onErrorResume(WebClientResponseException.class,
+                                    e -> Mono.just(searchFailed(position, youtubeTrack, searchQuery, e)));
+                });
+    }
+    
+    /**
+     * The outcome a previous attempt left for a track, or null when the track has to be searched
+     */
+    private TrackMatch checkpointed(int position, Track youtubeTrack, Checkpoints checkpoints) {
+        if (checkpoints.isSkippedBeforeAdded(position)) {
+            String searchQuery = searchQueryFor(youtubeTrack);
+            log.warn("Skipping '{}': Spotify search failed before the tracks after it were added", searchQuery);
+            return TrackMatch.searchFailed(position, youtubeTrack, searchQuery);
+        }
+        ConversionTrack checkpoint = checkpoints.get(youtubeTrack.getId());
+        if (checkpoint == null) {
+            return null;
+        }
+        return new TrackMatch(position, youtubeTrack, checkpoint.getSearchQuery(), checkpoint.toSpotifyTrack());
+    }
+    
+    /**
+     * A track whose search failed is skipped in this conversion but neither cached nor checkpointed as
+     * unmatched, so a resume or a later conversion searches it again
+     */
+    private static TrackMatch searchFailed(int position, Track youtubeTrack, String searchQuery, WebClientResponseException e) {
+        log.warn("Skipping '{}': Spotify search failed with {}", searchQuery, e.getStatusCode());
+        return TrackMatch.searchFailed(position, youtubeTrack, searchQuery);
+    }
+    
+    private String searchQueryFor(Track youtubeTrack) {
+        String cleanTitle = youTubeService.cleanVideoTitle(youtubeTrack.getTitle());
+        String query = spotifyService.prepareSearchQuery(cleanTitle);
+        
+        // Topic channel uploads are titled with the song only; the artist comes from the channel
+        String artist = youtubeTrack.getArtist();
+        if (artist != null && !query.toLowerCase(Locale.ROOT).contains(artist.toLowerCase(Locale.ROOT))) {
+            return query + " " + artist;
+        }
+        return query;
+    }
+    
+    private String requireAccessToken(ConversionRequest request) {
+        String accessToken = oAuth2TokenService.getAccessToken(request.getSpotifyUserId());
+        if (accessToken == null) {
+            throw new RuntimeException("No valid Spotify access token found for user: " + request.getSpotifyUserId());
+        }
+        return accessToken;
+    }
+    
+    private MatchSummary summarize(List<TrackMatch> matches) {
+        MatchSummary summary = new MatchSummary();
+        
+        for (TrackMatch match : matches) {
+            summary.add(match);
+            if (match.isMatched()) {
+                summary.trackUris.add(spotifyService.getTrackUri(match.getSpotifyTrack().getId()));
+            }
+        }
+        return summary;
+    }
+    
+    private String playlistName(ConversionRequest request, Playlist youtubePlaylist) {
+        return request.getPlaylistName() != null ? 
+                request.getPlaylistName() : 
+                "Converted from YouTube: " + youtubePlaylist.getName();
+    }
+    
+    private String playlistDescription(ConversionRequest request) {
+        return request.getPlaylistDescription() != null ?
+                request.getPlaylistDescription() :
+                "Playlist converted from YouTube using Playlist Converter";
+    }
+    
+    private boolean isPublic(ConversionRequest request) {
+        return request.getIsPublic() != null ? request.getIsPublic() : false;
+    }
+    
+    private ConversionResult completeConversion(ConversionResult conversion, Playlist spotifyPlaylist, MatchSummary summary) {
+        conversion.setStatus(ConversionResult.ConversionStatus.COMPLETED);
+        conversion.setTotalTracks(summary.totalTracks());
+        conversion.setSpotifyPlaylistId(spotifyPlaylist.getId());
+        conversion.setSpotifyPlaylistUrl(spotifyPlaylist.getExternalUrl());
+        conversion.setMatchedTracks(summary.matchedTrackNames.size());
+        conversion.setSkippedTracks(summary.skippedTrackNames.size());
+        conversion.setAverageMatchConfidence(summary.averageConfidence());
+        conversion.setMatchedTrackNames(summary.matchedTrackNames);
+        conversion.setSkippedTrackNames(summary.skippedTrackNames);
+        conversion.setCompletedAt(LocalDateTime.now());
+        conversion.setTracksProcessed(progressTracker.finish(conversion.getConversionId()));
+        
+        ConversionResult saved = conversionRepository.save(conversion);
+        if (!conversion.isSync()) {
+            // The converted videos become the baseline later syncs of the playlist work from
+            checkpointService.flush(conversion.getConversionId());
+            playlistSyncService.recordConversion(conversion);
+        }
+        checkpointService.discard(conversion.getConversionId());
+        publishStatus(conversion, conversion.isSync() ? "Sync completed successfully" : "Conversion completed successfully");
+        
+        log.info("Conversion completed successfully: {} (matched: {}, skipped: {})", 
+                conversion.getConversionId(), summary.matchedTrackNames.size(), summary.skippedTrackNames.size());
+        return saved;
+    }
+    
+    private ConversionResult failConversion(ConversionResult conversion, Throwable e) {
+        log.error("Conversion failed for ID {}: {}", conversion.getConversionId(), e.getMessage(), e);
+        
+        // Update conversion with error
+        conversion.setStatus(ConversionResult.ConversionStatus.FAILED);
+        conversion.setErrorMessage(e.getMessage());
+        conversion.setCompletedAt(LocalDateTime.now());
+        conversion.setTracksProcessed(progressTracker.finish(conversion.getConversionId()));
+        // Keeps the searches made so far for a resume
+        checkpointService.finish(conversion.getConversionId());
+        
+        ConversionResult saved = conversionRepository.save(conversion);
+        publishStatus(conversion, "Conversion failed: " + e.getMessage());
+        return saved;
+    }
+    
+    /**
+     * Fails a conversion that is IN_PROGRESS in the database but no longer running anywhere,
+     * releasing what this instance still holds for it
+     */
+    public void failStuckConversion(ConversionResult conversion) {
+        log.warn("Reaping conversion {}: IN_PROGRESS since {} without a running worker",
+                conversion.getConversionId(), conversion.getStartedAt());
+        failConversion(conversion, new ConversionTimeoutException(deadlines.getTimeout()));
+    }
+    
+    /**
+     * Checkpoints a newly searched track, unless its search failed, and reports it as processed
+     */
+    private void trackMatched(ConversionResult conversion, Checkpoints checkpoints, TrackMatch match) {
+        if (!match.isSearchFailed() && !checkpoints.contains(match.getYoutubeTrack().getId())) {
+            checkpointService.record(conversion.getConversionId(), match,
+                    match.isMatched() ? spotifyService.getTrackUri(match.getSpotifyTrack().getId()) : null);
+        }
+        trackProcessed(conversion, match);
+    }
+    
+    /**
+     * Counts a processed track and pushes it to progress stream subscribers
+     */
+    private void trackProcessed(ConversionResult conversion, TrackMatch match) {
+        int processed = progressTracker.trackProcessed(conversion.getConversionId());
+        Track spotifyTrack = match.getSpotifyTrack();
+        eventBroadcaster.publish(new ConversionProgressEvent(
+                conversion.getConversionId(),
+                ConversionResult.ConversionStatus.IN_PROGRESS,
+                conversion.getTotalTracks(),
+                processed,
+                match.getYoutubeTrack().getTitle(),
+                spotifyTrack != null ? spotifyTrack.getArtist() + " - " + spotifyTrack.getTitle() : null,
+                null));
+    }
+    
+    /**
+     * Records a status change in the in-memory registry and pushes it to progress stream subscribers
+     */
+    private void publishStatus(ConversionResult conversion, String message) {
+        statusRegistry.update(conversion);
+        eventBroadcaster.publish(toEvent(conversion,
+                Math.max(progressTracker.getProcessed(conversion.getConversionId()),
+                        conversion.getTracksProcessed() != null ? conversion.getTracksProcessed() : 0),
+                message));
+    }
+    
+    private static ConversionProgressEvent toEvent(ConversionResult conversion, int tracksProcessed, String message) {
+        return new ConversionProgressEvent(conversion.getConversionId(), conversion.getStatus(),
+                conversion.getTotalTracks(), tracksProcessed, null, null, message);
+    }
+    
+    /**
+     * Runs blocking (JDBC) work off the caller's thread inside a reactive pipeline
+     */
+    private static <T> Mono<T> blocking(Callable<T> work) {
+        return Mono.fromCallable(work).subscribeOn(Schedulers.boundedElastic());
+    }
+    
+    /**
+     * Gets the status of a conversion. In-flight conversions of this instance are answered from memory.
      */
     public ConversionResult getConversionStatus(String conversionId) {
+        ConversionResult inFlight = statusRegistry.find(conversionId);
+        if (inFlight != null) {
+            return inFlight;
+        }
         return conversionRepository.findByConversionId(conversionId)
                 .orElseThrow(() -> new RuntimeException("Conversion not found: " + conversionId));
     }
     
+    /**
+     * Progress events of a conversion until it reaches a terminal state. Running conversions are served from
+     * memory; for any other conversion the stream is its current state read once. Returns null when unknown.
+     */
+    public Flux<ConversionProgressEvent> streamProgress(String conversionId) {
+        Flux<ConversionProgressEvent> live = eventBroadcaster.stream(conversionId);
+        if (live != null) {
+            return live;
+        }
+        return conversionRepository.findByConversionId(conversionId)
+                .map(conversion -> Flux.just(toEvent(conversion,
+                        conversion.getTracksProcessed() != null ? conversion.getTracksProcessed() : 0,
+                        conversion.getErrorMessage())))
+                .orElse(null);
+    }
+    
     /**
      * Gets all conversions for a user
      */
     public List<ConversionResult> getUserConversions(String spotifyUserId) {
         return conversionRepository.findBySpotifyUserIdOrderByCreatedAtDesc(spotifyUserId);
     }
+    
+    /**
+     * A page of a user's conversions as summaries, newest first. Without a cursor the first page is returned;
+     * otherwise the page continues after the row the cursor names, so every page costs the same index seek.
+     *
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public ConversionPage getUserConversionPage(String spotifyUserId, String cursor, int limit) {
+        int size = pageSize(limit);
+        // One extra row tells whether another page follows
+        PageRequest page = PageRequest.of(0, size + 1);
+        List<ConversionSummary> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = conversionRepository.findSummariesBySpotifyUserId(spotifyUserId, page);
+        } else {
+            PageCursor after = PageCursor.decode(cursor);
+            rows = conversionRepository.findSummariesBySpotifyUserIdBefore(spotifyUserId, after.createdAt(), after.id(), page);
+        }
+        
+        if (rows.size() <= size) {
+            return new ConversionPage(rows, null);
+        }
+        List<ConversionSummary> conversions = rows.subList(0, size);
+        ConversionSummary last = conversions.get(size - 1);
+        return new ConversionPage(conversions, new PageCursor(last.createdAt(), last.id()).encode());
+    }
+    
+    /**
+     * A page of a conversion's matched or skipped track names. The cursor is the playlist position to
+     * continue from, so each page is a range read on the collection's primary key.
+     */
+    public TrackNamePage getTrackNames(String conversionId, boolean matched, int cursor, int limit) {
+        int from = Math.max(0, cursor);
+        int size = pageSize(limit);
+        // One extra row tells whether another page follows
+        PageRequest page = PageRequest.of(0, size + 1);
+        List<String> names = matched
+                ? conversionRepository.findMatchedTrackNames(conversionId, from, page)
+                : conversionRepository.findSkippedTrackNames(conversionId, from, page);
+        
+        if (names.isEmpty() && !conversionRepository.existsByConversionId(conversionId)) {
+            throw new RuntimeException("Conversion not found: " + conversionId);
+        }
+        boolean hasMore = names.size() > size;
+        return new TrackNamePage(conversionId, matched ? "matched" : "skipped",
+                hasMore ? names.subList(0, size) : names,
+                hasMore ? from + size : null);
+    }
+    
+    private static int pageSize(int limit) {
+        return Math.min(Math.max(1, limit), MAX_PAGE_SIZE);
+    }
+    
+    /**
+     * Display names collected from a conversion's matches, and their Spotify URIs when the playlist is filled
+     * after matching
+     */
+    static final class MatchSummary {
+        private final List<String> trackUris = new ArrayList<>();
+        private final List<String> matchedTrackNames = new ArrayList<>();
+        private final List<String> skippedTrackNames = new ArrayList<>();
+        private double confidenceSum;
+        private int scoredMatches;
+        
+        private void add(TrackMatch match) {
+            Track youtubeTrack = match.getYoutubeTrack();
+            Track spotifyTrack = match.getSpotifyTrack();
+            
+            if (match.isMatched()) {
+                matchedTrackNames.add(spotifyTrack.getArtist() + " - " + spotifyTrack.getTitle());
+                if (match.getConfidence() != null) {
+                    confidenceSum += match.getConfidence();
+                    scoredMatches++;
+                }
+                log.debug("Matched: {} -> {}", youtubeTrack.getTitle(), spotifyTrack.getTitle());
+            } else {
+                skippedTrackNames.add(youtubeTrack.getTitle());
+                log.debug("Skipped: {}", youtubeTrack.getTitle());
+            }
+        }
+        
+        int totalTracks() {
+            return matchedTrackNames.size() + skippedTrackNames.size();
+        }
+        
+        private Double averageConfidence() {
+            return scoredMatches > 0 ? confidenceSum / scoredMatches : null;
+        }
+    }
 }
@@ -0,0 +1,131 @@
+package com.playlist.converter.service;
+
+import com.playlist.converter.model.ConversionResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory status of the PENDING and IN_PROGRESS conversions running in this JVM.
+ * The conversion worker is the only writer of that state, so status reads for those conversions are
+ * answered here without a query; once a conversion is COMPLETED or FAILED its entry is dropped and reads
+ * go to the persisted ConversionResult. Entries are capped in number and evicted when no longer updated.
+ */
+@Service
+public class ConversionStatusRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(ConversionStatusRegistry.class);
+
+    private final ConversionProgressTracker progressTracker;
+    private final int maxEntries;
+    private final Duration staleAfter;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Counter memoryReads;
+    private final Counter databaseReads;
+
+    public ConversionStatusRegistry(ConversionProgressTracker progressTracker, MeterRegistry meterRegistry,
+                                    @Value("${app.conversion.status-registry.max-entries:1000}") int maxEntries,
+                                    @Value("${app.conversion.status-registry.stale-after-minutes:30}") long staleAfterMinutes) {
+        this.progressTracker = progressTracker;
+        this.maxEntries = maxEntries;
+        this.staleAfter = Duration.ofMinutes(staleAfterMinutes);
+
+        this.memoryReads = Counter.builder("conversion.status.reads")
+                .description("Conversion status reads")
+                .tag("source", "memory")
+                .register(meterRegistry);
+        this.databaseReads = Counter.builder("conversion.status.reads")
+                .description("Conversion status reads")
+                .tag("source", "database")
+                .register(meterRegistry);
+        Gauge.builder("conversion.status.registry.size", entries, Map::size)
+                .description("In-flight conversions whose status is served from memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records the current state of a conversion; terminal states hand over to the database
+     */
+    public void update(ConversionResult conversion) {
+        String conversionId = conversion.getConversionId();
+        ConversionResult.ConversionStatus status = conversion.getStatus();
+        if (status == ConversionResult.ConversionStatus.COMPLETED || status == ConversionResult.ConversionStatus.FAILED) {
+            entries.remove(conversionId);
+            return;
+        }
+        if (entries.size() >= maxEntries && !entries.containsKey(conversionId)) {
+            // Reads for this conversion simply fall back to the database
+            log.debug("Status registry full, not tracking conversion {}", conversionId);
+            return;
+        }
+        entries.put(conversionId, new Entry(conversionId, conversion.getYoutubePlaylistUrl(),
+                conversion.getSpotifyUserId(), status, conversion.getTotalTracks(), conversion.getSpotifyPlaylistId(),
+                conversion.getSpotifyPlaylistUrl(), conversion.getTracksAdded(), conversion.getCreatedAt(),
+                LocalDateTime.now()));
+    }
+
+    /**
+     * Stops tracking a conversion
+     */
+    public void remove(String conversionId) {
+        entries.remove(conversionId);
+    }
+
+    /**
+     * Status of an in-flight conversion as a detached ConversionResult, or null when it has to be read
+     * from the database
+     */
+    public ConversionResult find(String conversionId) {
+        Entry entry = entries.get(conversionId);
+        if (entry == null) {
+            databaseReads.increment();
+            return null;
+        }
+        memoryReads.increment();
+        return entry.toResult(progressTracker.getProcessed(conversionId));
+    }
+
+    /**
+     * Drops entries whose conversion stopped reporting, e.g. after a worker was interrupted
+     */
+    @Scheduled(fixedDelayString = "${app.conversion.status-registry.sweep-interval-ms:60000}")
+    public void evictStale() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(staleAfter);
+        entries.values().removeIf(entry -> !entry.updatedAt().isAfter(cutoff));
+    }
+
+    /**
+     * Immutable snapshot of an in-flight conversion, including the Spotify playlist it is already filling
+     */
+    private record Entry(String conversionId, String youtubePlaylistUrl, String spotifyUserId,
+                         ConversionResult.ConversionStatus status, Integer totalTracks,
+                         String spotifyPlaylistId, String spotifyPlaylistUrl, Integer tracksAdded,
+                         LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+        ConversionResult toResult(int tracksProcessed) {
+            ConversionResult result = new ConversionResult();
+            result.setConversionId(conversionId);
+            result.setYoutubePlaylistUrl(youtubePlaylistUrl);
+            result.setSpotifyUserId(spotifyUserId);
+            result.setStatus(status);
+            result.setTotalTracks(totalTracks);
+            result.setTracksProcessed(tracksProcessed);
+            result.setSpotifyPlaylistId(spotifyPlaylistId);
+            result.setSpotifyPlaylistUrl(spotifyPlaylistUrl);
+            result.setTracksAdded(tracksAdded);
+            result.setCreatedAt(createdAt);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.playlist.converter.service;
+
+import com.playlist.converter.dto.ConversionRequest;
+import com.playlist.converter.model.ConversionResult;
+import com.playlist.converter.model.ConversionTrack;
+import com.playlist.converter.model.PlaylistSyncTrack;
+import com.playlist.converter.repository.ConversionRepository;
+import com.playlist.converter.repository.ConversionTrackRepository;
+import com.playlist.converter.repository.PlaylistSyncTrackRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Video-to-track mappings of synced playlists.
+ * A completed conversion leaves the mapping of every video it converted as the baseline of its Spotify
+ * playlist; each sync then records the videos it added and forgets the ones it removed.
+ */
+@Service
+public class PlaylistSyncService {
+
+    private final PlaylistSyncTrackRepository syncTrackRepository;
+    private final ConversionTrackRepository conversionTrackRepository;
+    private final ConversionRepository conversionRepository;
+
+    public PlaylistSyncService(PlaylistSyncTrackRepository syncTrackRepository,
+                               ConversionTrackRepository conversionTrackRepository,
+                               ConversionRepository conversionRepository) {
+        this.syncTrackRepository = syncTrackRepository;
+        this.conversionTrackRepository = conversionTrackRepository;
+        this.conversionRepository = conversionRepository;
+    }
+
+    /**
+     * Mappings of a (YouTube playlist, Spotify playlist) pair keyed by video ID
+     */
+    public Map<String, PlaylistSyncTrack> load(String spotifyPlaylistId, String youtubePlaylistId) {
+        Map<String, PlaylistSyncTrack> synced = new HashMap<>();
+        for (PlaylistSyncTrack track : syncTrackRepository.findBySpotifyPlaylistIdAndYoutubePlaylistId(
+                spotifyPlaylistId, youtubePlaylistId)) {
+            synced.put(track.getVideoId(), track);
+        }
+        return synced;
+    }
+
+    /**
+     * Whether a conversion's Spotify playlist has a baseline to sync against; conversions completed before
+     * syncing existed have none
+     */
+    public boolean hasBaseline(ConversionResult conversion) {
+        String youtubePlaylistId = ConversionRequest.extractPlaylistId(conversion.getYoutubePlaylistUrl());
+        return conversion.getSpotifyPlaylistId() != null && youtubePlaylistId != null
+                && syncTrackRepository.existsBySpotifyPlaylistIdAndYoutubePlaylistId(
+                        conversion.getSpotifyPlaylistId(), youtubePlaylistId);
+    }
+
+    /**
+     * Records every video a completed conversion put in its Spotify playlist as that playlist's baseline,
+     * from the conversion's flushed checkpoints
+     */
+    @Transactional
+    public void recordConversion(ConversionResult conversion) {
+        String youtubePlaylistId = ConversionRequest.extractPlaylistId(conversion.getYoutubePlaylistUrl());
+        if (youtubePlaylistId == null || conversion.getSpotifyPlaylistId() == null) {
+            return;
+        }
+        List<PlaylistSyncTrack> baseline = new ArrayList<>();
+        for (ConversionTrack track : conversionTrackRepository.findByConversionId(conversion.getConversionId())) {
+            baseline.add(new PlaylistSyncTrack(youtubePlaylistId, conversion.getSpotifyPlaylistId(),
+                    track.getVideoId(), track.getSpotifyUri()));
+        }
+        syncTrackRepository.saveAll(baseline);
+    }
+
+    /**
+     * Records the videos a sync added and resets its tracksAdded checkpoint in the same transaction, so a
+     * resumed sync neither adds them again nor skips videos that are new to it
+     */
+    @Transactional
+    public void recordAdded(ConversionResult sync, List<PlaylistSyncTrack> added) {
+        syncTrackRepository.saveAll(added);
+        conversionRepository.updateTracksAdded(sync.getConversionId(), 0);
+    }
+
+    /**
+     * Forgets the videos that left the YouTube playlist
+     */
+    public void recordRemoved(String spotifyPlaylistId, String youtubePlaylistId, Collection<String> videoIds) {
+        if (!videoIds.isEmpty()) {
+            syncTrackRepository.deleteVideos(spotifyPlaylistId, youtubePlaylistId, videoIds);
+        }
+    }
+}
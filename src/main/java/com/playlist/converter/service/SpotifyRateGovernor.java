@@ -0,0 +1,212 @@
+package com.playlist.converter.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared rate governor in front of the Spotify WebClient.
+ * Every request takes a token from the application-wide bucket and from the bucket of its access token,
+ * waiting (without holding a thread) when either is empty. A 429 pauses all Spotify traffic for the
+ * response's Retry-After and the request is retried instead of failing.
+ */
+@Service
+public class SpotifyRateGovernor implements ExchangeFilterFunction {
+
+    private static final Logger log = LoggerFactory.getLogger(SpotifyRateGovernor.class);
+
+    // Above this many tracked access tokens, buckets that are full again are dropped
+    private static final int TOKEN_BUCKET_SWEEP_THRESHOLD = 256;
+
+    private final TokenBucket appBucket;
+    private final Map<String, TokenBucket> tokenBuckets = new ConcurrentHashMap<>();
+    private final double perTokenRate;
+    private final int perTokenBurst;
+    private final int maxRetries;
+    private final Duration defaultRetryAfter;
+    private final Duration maxRetryAfter;
+
+    // System.nanoTime() until which no request is sent
+    private volatile long pausedUntil;
+
+    private final Counter throttledResponses;
+    private final Timer waitTimer;
+
+    public SpotifyRateGovernor(MeterRegistry meterRegistry,
+                               @Value("${app.spotify.rate.app-per-second:20}") double appRate,
+                               @Value("${app.spotify.rate.app-burst:20}") int appBurst,
+                               @Value("${app.spotify.rate.token-per-second:10}") double perTokenRate,
+                               @Value("${app.spotify.rate.token-burst:10}") int perTokenBurst,
+                               @Value("${app.spotify.rate.max-retries:3}") int maxRetries,
+                               @Value("${app.spotify.rate.default-retry-after-seconds:5}") long defaultRetryAfterSeconds,
+                               @Value("${app.spotify.rate.max-retry-after-seconds:60}") long maxRetryAfterSeconds) {
+        this.appBucket = new TokenBucket(appRate, appBurst);
+        this.perTokenRate = perTokenRate;
+        this.perTokenBurst = perTokenBurst;
+        this.maxRetries = maxRetries;
+        this.defaultRetryAfter = Duration.ofSeconds(defaultRetryAfterSeconds);
+        this.maxRetryAfter = Duration.ofSeconds(maxRetryAfterSeconds);
+        this.pausedUntil = System.nanoTime();
+
+        this.throttledResponses = Counter.builder("spotify.rate.throttled")
+                .description("429 responses received from Spotify")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("spotify.rate.wait")
+                .description("Time requests waited for a rate limit token or a Retry-After pause")
+                .register(meterRegistry);
+        Gauge.builder("spotify.rate.app.tokens", this, governor -> governor.appBucket.available(System.nanoTime()))
+                .description("Tokens left in the application-wide bucket")
+                .register(meterRegistry);
+        Gauge.builder("spotify.rate.paused.seconds", this, SpotifyRateGovernor::getPausedSeconds)
+                .description("Remaining Retry-After pause")
+                .register(meterRegistry);
+        Gauge.builder("spotify.rate.tracked.tokens", tokenBuckets, Map::size)
+                .description("Access tokens with a rate limit bucket")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return exchange(request, next, 0);
+    }
+
+    private Mono<ClientResponse> exchange(ClientRequest request, ExchangeFunction next, int attempt) {
+        return Mono.defer(() -> {
+            long delay = reserve(request.headers().getFirst(HttpHeaders.AUTHORIZATION));
+            if (delay <= 0) {
+                return next.exchange(request);
+            }
+            waitTimer.record(delay, TimeUnit.NANOSECONDS);
+            return Mono.delay(Duration.ofNanos(delay)).then(next.exchange(request));
+        }).flatMap(response -> {
+            if (response.statusCode().value() != HttpStatus.TOO_MANY_REQUESTS.value() || attempt >= maxRetries) {
+                return Mono.just(response);
+            }
+            Duration retryAfter = retryAfter(response.headers().asHttpHeaders());
+            throttledResponses.increment();
+            pause(retryAfter);
+            log.warn("Spotify rate limit hit on {}; pausing for {}s (retry {} of {})",
+                    request.url().getPath(), retryAfter.toSeconds(), attempt + 1, maxRetries);
+            return response.releaseBody().then(exchange(request, next, attempt + 1));
+        });
+    }
+
+    /**
+     * Takes a token from both buckets and returns how long the request has to wait, in nanoseconds
+     */
+    long reserve(String authorization) {
+        long now = System.nanoTime();
+        long wait = appBucket.reserve(now);
+        if (authorization != null) {
+            wait = Math.max(wait, tokenBucket(authorization, now).reserve(now));
+        }
+        return Math.max(wait, pausedUntil - now);
+    }
+
+    private TokenBucket tokenBucket(String authorization, long now) {
+        if (tokenBuckets.size() > TOKEN_BUCKET_SWEEP_THRESHOLD) {
+            // A full bucket behaves exactly like a new one, so dropping it loses nothing
+            tokenBuckets.values().removeIf(bucket -> bucket.isFull(now));
+        }
+        return tokenBuckets.computeIfAbsent(authorization, key -> new TokenBucket(perTokenRate, perTokenBurst));
+    }
+
+    private void pause(Duration retryAfter) {
+        long until = System.nanoTime() + retryAfter.toNanos();
+        synchronized (this) {
+            if (until - pausedUntil > 0) {
+                pausedUntil = until;
+            }
+        }
+    }
+
+    /**
+     * Reads Retry-After as delta-seconds or an HTTP date, capped at the configured maximum
+     */
+    Duration retryAfter(HttpHeaders headers) {
+        String value = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        Duration retryAfter = defaultRetryAfter;
+        if (value != null) {
+            try {
+                retryAfter = Duration.ofSeconds(Long.parseLong(value.trim()));
+            } catch (NumberFormatException e) {
+                try {
+                    retryAfter = Duration.ofMillis(headers.getFirstDate(HttpHeaders.RETRY_AFTER) - System.currentTimeMillis());
+                } catch (IllegalArgumentException invalidDate) {
+                    log.debug("Ignoring unparseable Retry-After: {}", value);
+                }
+            }
+        }
+        if (retryAfter.isNegative()) {
+            return Duration.ZERO;
+        }
+        return retryAfter.compareTo(maxRetryAfter) > 0 ? maxRetryAfter : retryAfter;
+    }
+
+    /**
+     * Seconds left in the current Retry-After pause
+     */
+    public double getPausedSeconds() {
+        long remaining = pausedUntil - System.nanoTime();
+        return remaining > 0 ? remaining / 1e9 : 0;
+    }
+
+    /**
+     * Token bucket that lets callers reserve tokens ahead of time: the balance may go negative,
+     * and the deficit is the time the caller has to wait before sending.
+     */
+    static final class TokenBucket {
+
+        private final double tokensPerNano;
+        private final double capacity;
+        private double tokens;
+        private long refilledAt;
+
+        TokenBucket(double tokensPerSecond, int capacity) {
+            this.tokensPerNano = tokensPerSecond / 1e9;
+            this.capacity = Math.max(1, capacity);
+            this.tokens = this.capacity;
+            this.refilledAt = System.nanoTime();
+        }
+
+        synchronized long reserve(long now) {
+            refill(now);
+            tokens -= 1;
+            return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / tokensPerNano);
+        }
+
+        synchronized double available(long now) {
+            refill(now);
+            return Math.max(0, tokens);
+        }
+
+        synchronized boolean isFull(long now) {
+            refill(now);
+            return tokens >= capacity;
+        }
+
+        private void refill(long now) {
+            if (now - refilledAt > 0) {
+                tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+                refilledAt = now;
+            }
+        }
+    }
+}
@@ -1,20 +1,44 @@
 package com.playlist.converter.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.playlist.converter.dto.spotify.SpotifyPlaylistItemsResponse;
+import com.playlist.converter.dto.spotify.SpotifyPlaylistResponse;
+import com.playlist.converter.dto.spotify.SpotifyPlaylistVersionResponse;
+import com.playlist.converter.dto.spotify.SpotifySearchResponse;
+import com.playlist.converter.dto.spotify.SpotifySnapshotResponse;
+import com.playlist.converter.dto.spotify.SpotifyTrackItem;
 import com.playlist.converter.model.Playlist;
 import com.playlist.converter.model.Track;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 /**
  * Service for interacting with Spotify Web API
@@ -24,91 +48,242 @@ public class SpotifyService {
     
     private static final Logger log = LoggerFactory.getLogger(SpotifyService.class);
     
+    // Spotify API allows max 100 tracks per add request and 100 items per page
+    private static final int PLAYLIST_BATCH_SIZE = 100;
+    // Fewer batches are posted one at a time: the read-back and moves that restore the order of concurrent
+    // batches cost more round-trips than they save (see PlaylistWriteBenchmark)
+    private static final int CONCURRENT_WRITE_MIN_BATCHES = 11;
+    private static final Duration WRITE_RETRY_BACKOFF = Duration.ofMillis(500);
+    
     private final WebClient webClient;
+    private final int candidateCount;
+    private final double minConfidence;
+    private final String market;
+    private final int writeConcurrency;
+    private final int writeRetries;
+    
+    // Searches currently in flight, keyed by normalized query and market
+    private final Map<String, Mono<List<Track>>> inFlightSearches = new ConcurrentHashMap<>();
+    private final Counter upstreamSearches;
+    private final Counter coalescedSearches;
+    private final Counter retriedBatches;
+    private final Counter reorderedBatches;
+    private final Counter unorderedAppends;
     
-    public SpotifyService(@Qualifier("spotifyWebClient") WebClient webClient) {
+    public SpotifyService(@Qualifier("spotifyWebClient") WebClient webClient, MeterRegistry meterRegistry,
+                          @Value("${app.spotify.search.candidates:5}") int candidateCount,
+                          @Value("${app.spotify.search.min-confidence:0.3}") double minConfidence,
+                          @Value("${app.spotify.search.market:}") String market,
+                          @Value("${app.spotify.playlist.write-concurrency:4}") int writeConcurrency,
+                          @Value("${app.spotify.playlist.write-retries:3}") int writeRetries) {
         this.webClient = webClient;
+        this.candidateCount = Math.max(1, Math.min(candidateCount, 50)); // Spotify caps limit at 50
+        this.minConfidence = minConfidence;
+        this.market = market == null ? "" : market.trim();
+        this.writeConcurrency = Math.max(1, writeConcurrency);
+        this.writeRetries = Math.max(0, writeRetries);
+        
+        this.upstreamSearches = Counter.builder("spotify.search.calls")
+                .description("Spotify track searches by whether they reached Spotify")
+                .tag("outcome", "upstream")
+                .register(meterRegistry);
+        this.coalescedSearches = Counter.builder("spotify.search.calls")
+                .description("Spotify track searches by whether they reached Spotify")
+                .tag("outcome", "coalesced")
+                .register(meterRegistry);
+        Gauge.builder("spotify.search.in.flight", inFlightSearches, Map::size)
+                .description("Distinct Spotify searches currently in flight")
+                .register(meterRegistry);
+        this.retriedBatches = Counter.builder("spotify.playlist.batches.retried")
+                .description("Playlist add and remove requests retried after a server or connection error")
+                .register(meterRegistry);
+        this.reorderedBatches = Counter.builder("spotify.playlist.batches.reordered")
+                .description("Playlist batches that landed out of order and were moved into place")
+                .register(meterRegistry);
+        this.unorderedAppends = Counter.builder("spotify.playlist.appends.unordered")
+                .description("Track additions that landed but could not be put back in their original order")
+                .register(meterRegistry);
     }
     
     /**
      * Search for a track on Spotify
      */
     public Track searchTrack(String query, String accessToken) {
-        try {
-            log.debug("Searching Spotify for track: {}", query);
-            
-            JsonNode response = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/search")
-                            .queryParam("q", query)
-                            .queryParam("type", "track")
-                            .queryParam("limit", 1)
-                            .build())
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                    .retrieve()
-                    .bodyToMono(JsonNode.class)
-                    .block();
-            
-            if (response == null || !response.has("tracks") || 
-                response.get("tracks").get("items").size() == 0) {
+        return searchTrack(query, null, accessToken);
+    }
+    
+    /**
+     * Search for a track on Spotify, preferring candidates close to the given duration
+     */
+    public Track searchTrack(String query, Long expectedDurationMs, String accessToken) {
+        return searchTrackReactive(query, expectedDurationMs, accessToken).block();
+    }
+    
+    /**
+     * Non-blocking track search; completes empty when no track is found.
+     * Fails when the search itself fails, including when Spotify keeps answering 429 after the rate governor's retries.
+     */
+    public Mono<Track> searchTrackReactive(String query, String accessToken) {
+        return searchTrackReactive(query, null, accessToken);
+    }
+    
+    /**
+     * Non-blocking track search. Fetches the top candidates in one request and returns the best
+     * scoring one with its match confidence; completes empty when none reaches the minimum confidence.
+     *
+     * @param expectedDurationMs duration of the YouTube video, or null when unknown
+     */
+    public Mono<Track> searchTrackReactive(String query, Long expectedDurationMs, String accessToken) {
+        return searchCandidates(query, accessToken).flatMap(candidates -> {
+            if (candidates.isEmpty()) {
                 log.debug("No Spotify track found for query: {}", query);
-                return null;
+                return Mono.empty();
             }
-            
-            JsonNode track = response.get("tracks").get("items").get(0);
-            
-            return Track.fromSpotify(
-                    track.get("id").asText(),
-                    track.get("name").asText(),
-                    track.get("artists").get(0).get("name").asText(),
-                    track.get("album").get("name").asText(),
-                    track.get("duration_ms").asLong(),
-                    track.get("external_urls").get("spotify").asText()
-            );
-            
-        } catch (WebClientResponseException e) {
-            log.error("Error searching Spotify track: {}", e.getMessage());
-            return null;
-        }
+            // Scoring is per caller: coalesced callers share candidates but may expect different durations
+            Track best = TrackMatchScorer.best(query, expectedDurationMs, candidates);
+            if (best.getMatchConfidence() < minConfidence) {
+                log.debug("Best Spotify candidate for '{}' scored {}; treating as not found",
+                        query, best.getMatchConfidence());
+                return Mono.empty();
+            }
+            return Mono.just(best);
+        });
+    }
+    
+    /**
+     * Search candidates for a query. Concurrent callers with the same normalized query and market
+     * share a single upstream request; the entry is dropped once that request completes.
+     */
+    Mono<List<Track>> searchCandidates(String query, String accessToken) {
+        return Mono.defer(() -> {
+            String key = searchKey(query);
+            boolean[] leader = new boolean[1];
+            Mono<List<Track>> search = inFlightSearches.computeIfAbsent(key, k -> {
+                leader[0] = true;
+                // Evicted before the result reaches waiting callers, so none of them can search again and
+                // be handed this completed request; cache() never cancels upstream, so termination is the only exit
+                return fetchCandidates(query, accessToken)
+                        .doOnTerminate(() -> inFlightSearches.remove(k))
+                        .cache();
+            });
+            (leader[0] ? upstreamSearches : coalescedSearches).increment();
+            return search;
+        });
+    }
+    
+    private String searchKey(String query) {
+        return query.trim().toLowerCase(Locale.ROOT) + "|" + market;
+    }
+    
+    private Mono<List<Track>> fetchCandidates(String query, String accessToken) {
+        log.debug("Searching Spotify for track: {}", query);
+        
+        return webClient.get()
+                .uri(uriBuilder -> {
+                    uriBuilder.path("/search")
+                            .queryParam("q", query)
+                            .queryParam("type", "track")
+                            .queryParam("limit", candidateCount);
+                    if (!market.isEmpty()) {
+                        uriBuilder.queryParam("market", market);
+                    }
+                    return uriBuilder.build();
+                })
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .retrieve()
+                .bodyToMono(SpotifySearchResponse.class)
+                .map(response -> {
+                    List<Track> candidates = new ArrayList<>();
+                    if (response.tracks() != null && response.tracks().items() != null) {
+                        for (SpotifyTrackItem item : response.tracks().items()) {
+                            candidates.add(toTrack(item));
+                        }
+                    }
+                    return candidates;
+                })
+                .onErrorMap(WebClientResponseException.TooManyRequests.class, e -> {
+                    // Still throttled after the rate governor's retries; not a missing track, so don't report it as one
+                    log.error("Spotify rate limit exceeded while searching for: {}", query);
+                    return new RuntimeException("Spotify rate limit exceeded: " + e.getMessage());
+                })
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> {
+                    log.debug("Spotify search answered 404 for: {}", query);
+                    return Mono.just(List.of());
+                })
+                // Other failures (5xx, 401, 403) say nothing about whether the track exists, so they are not turned
+                // into "not found": callers would remember that answer
+                .doOnError(WebClientResponseException.class,
+                        e -> log.error("Error searching Spotify track: {}", e.getMessage()));
+    }
+    
+    /**
+     * Builds a Track from a Spotify track object
+     */
+    static Track toTrack(SpotifyTrackItem track) {
+        return Track.fromSpotify(
+                track.id(),
+                track.name(),
+                track.artists() != null && !track.artists().isEmpty() ? track.artists().get(0).name() : null,
+                track.album() != null ? track.album().name() : null,
+                track.durationMs(),
+                track.externalUrls() != null ? track.externalUrls().spotify() : null
+        );
     }
     
     /**
      * Create a new playlist on Spotify
      */
     public Playlist createPlaylist(String userId, String name, String description, boolean isPublic, String accessToken) {
-        try {
-            log.info("Creating Spotify playlist: {} for user: {}", name, userId);
-            
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("name", name);
-            requestBody.put("description", description);
-            requestBody.put("public", isPublic);
-            
-            JsonNode response = webClient.post()
-                    .uri("/users/{user_id}/playlists", userId)
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                    .body(BodyInserters.fromValue(requestBody))
-                    .retrieve()
-                    .bodyToMono(JsonNode.class)
-                    .block();
-            
-            if (response == null) {
-                throw new RuntimeException("Failed to create Spotify playlist");
-            }
-            
-            return Playlist.fromSpotify(
-                    response.get("id").asText(),
-                    response.get("name").asText(),
-                    response.get("description").asText(),
-                    response.get("owner").get("display_name").asText(),
-                    response.get("owner").get("id").asText(),
-                    0, // Initial track count is 0
-                    response.get("external_urls").get("spotify").asText()
-            );
-            
-        } catch (WebClientResponseException e) {
-            log.error("Error creating Spotify playlist: {}", e.getMessage());
-            throw new RuntimeException("Failed to create Spotify playlist: " + e.getMessage());
+        return createPlaylistReactive(userId, name, description, isPublic, accessToken).block();
+    }
+    
+    /**
+     * Non-blocking playlist creation
+     */
+    public Mono<Playlist> createPlaylistReactive(String userId, String name, String description, boolean isPublic,
+                                                 String accessToken) {
+        log.info("Creating Spotify playlist: {} for user: {}", name, userId);
+        
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("name", name);
+        requestBody.put("description", description);
+        requestBody.put("public", isPublic);
+        
+        return webClient.post()
+                .uri("/users/{user_id}/playlists", userId)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .body(BodyInserters.fromValue(requestBody))
+                .retrieve()
+                .bodyToMono(SpotifyPlaylistResponse.class)
+                .map(response -> Playlist.fromSpotify(
+                        response.id(),
+                        response.name(),
+                        response.description(),
+                        response.owner().displayName(),
+                        response.owner().id(),
+                        0, // Initial track count is 0
+                        response.externalUrls().spotify()
+                ))
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Failed to create Spotify playlist")))
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("Error creating Spotify playlist: {}", e.getMessage());
+                    return new RuntimeException("Failed to create Spotify playlist: " + e.getMessage());
+                });
+    }
+    
+    /**
+     * Outcome of adding tracks to a playlist
+     */
+    public enum PlaylistAppend {
+        /** Every track was added, in order */
+        ADDED,
+        /** Every track was added, but their order could not be verified or restored */
+        ADDED_OUT_OF_ORDER,
+        /** A batch still failed after its retries */
+        FAILED;
+        
+        public boolean isAdded() {
+            return this != FAILED;
         }
     }
     
@@ -116,36 +291,370 @@ public class SpotifyService {
      * Add tracks to a Spotify playlist
      */
     public boolean addTracksToPlaylist(String playlistId, List<String> trackUris, String accessToken) {
-        try {
-            log.info("Adding {} tracks to Spotify playlist: {}", trackUris.size(), playlistId);
-            
-            // Spotify API allows max 100 tracks per request
-            int batchSize = 100;
-            for (int i = 0; i < trackUris.size(); i += batchSize) {
-                int endIndex = Math.min(i + batchSize, trackUris.size());
-                List<String> batch = trackUris.subList(i, endIndex);
-                
-                Map<String, Object> requestBody = new HashMap<>();
-                requestBody.put("uris", batch);
-                
-                webClient.post()
-                        .uri("/playlists/{playlist_id}/tracks", playlistId)
+        PlaylistAppend result = addTracksToPlaylistReactive(playlistId, trackUris, accessToken).block();
+        return result != null && result.isAdded();
+    }
+    
+    /**
+     * Non-blocking variant of {@link #addTracksToPlaylist}; emits FAILED if a batch still fails after its retries.
+     */
+    public Mono<PlaylistAppend> addTracksToPlaylistReactive(String playlistId, List<String> trackUris, String accessToken) {
+        return addTracksToPlaylistReactive(playlistId, trackUris, accessToken, added -> Mono.empty());
+    }
+    
+    /**
+     * Adds tracks in batches of 100; each batch is retried on its own. From {@link #CONCURRENT_WRITE_MIN_BATCHES}
+     * batches on they are posted up to {@code write-concurrency} at a time. Concurrent appends land in whatever
+     * order Spotify receives them, so once every batch has landed the appended range is read back and batches out
+     * of place are moved into the order of {@code trackUris}. Batches posted one at a time need neither the
+     * read-back nor the playlist length it starts from, and cost one request each.
+     *
+     * @param onAdded called with the number of leading {@code trackUris} known to be in the playlist each time it
+     *                grows, one call at a time; the next call waits for the returned Mono. Tracks are counted
+     *                even before their order is restored, so a caller can checkpoint them without adding them again.
+     */
+    public Mono<PlaylistAppend> addTracksToPlaylistReactive(String playlistId, List<String> trackUris, String accessToken,
+                                                            Function<Integer, Mono<Void>> onAdded) {
+        log.info("Adding {} tracks to Spotify playlist: {}", trackUris.size(), playlistId);
+        
+        List<List<String>> batches = new ArrayList<>();
+        for (int i = 0; i < trackUris.size(); i += PLAYLIST_BATCH_SIZE) {
+            batches.add(trackUris.subList(i, Math.min(i + PLAYLIST_BATCH_SIZE, trackUris.size())));
+        }
+        
+        Mono<Boolean> inOrder = batches.size() < CONCURRENT_WRITE_MIN_BATCHES || writeConcurrency == 1
+                ? appendBatches(playlistId, batches, null, 1, accessToken, onAdded).then(Mono.just(true))
+                // The length before the first append is where the appended range starts
+                : playlistVersion(playlistId, accessToken).flatMap(before ->
+                        appendBatches(playlistId, batches, before.total(), writeConcurrency, accessToken, onAdded)
+                                .then(Mono.defer(() -> restoreOrder(playlistId, batches, before.total(), trackUris.size(), accessToken))));
+        
+        return inOrder
+                .map(ordered -> {
+                    if (!ordered) {
+                        unorderedAppends.increment();
+                        log.warn("Added all tracks to playlist {}, but not in their original order", playlistId);
+                        return PlaylistAppend.ADDED_OUT_OF_ORDER;
+                    }
+                    log.info("Successfully added all tracks to playlist: {}", playlistId);
+                    return PlaylistAppend.ADDED;
+                })
+                .onErrorResume(WebClientResponseException.class, e -> {
+                    log.error("Error adding tracks to Spotify playlist: {}", e.getMessage());
+                    return Mono.just(PlaylistAppend.FAILED);
+                });
+    }
+    
+    /**
+     * Posts {@code batches} with up to {@code concurrency} in flight, reporting the landed prefix to {@code onAdded}.
+     * Once a batch fails no further batch is started, but the ones in flight finish and are still reported,
+     * so a batch that landed is only left out of the prefix if one before it failed.
+     *
+     * @param base playlist length before the first append, or null when batches are posted one at a time
+     */
+    private Mono<Void> appendBatches(String playlistId, List<List<String>> batches, Integer base, int concurrency,
+                                     String accessToken, Function<Integer, Mono<Void>> onAdded) {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        boolean[] landed = new boolean[batches.size()];
+        int[] prefix = new int[2]; // batches, tracks
+        return Flux.range(0, batches.size())
+                .takeWhile(i -> failure.get() == null)
+                .flatMap(i -> appendBatch(playlistId, batches.get(i), base, accessToken, 0)
+                        .thenReturn(i)
+                        .onErrorResume(e -> {
+                            failure.compareAndSet(null, e);
+                            return Mono.empty();
+                        }), concurrency)
+                // flatMap emits one batch at a time, so the prefix needs no lock
+                .map(i -> {
+                    landed[i] = true;
+                    while (prefix[0] < landed.length && landed[prefix[0]]) {
+                        prefix[1] += batches.get(prefix[0]++).size();
+                    }
+                    return prefix[1];
+                })
+                .distinctUntilChanged()
+                .filter(added -> added > 0)
+                .concatMap(onAdded)
+                .then(Mono.defer(() -> failure.get() != null ? Mono.error(failure.get()) : Mono.empty()));
+    }
+    
+    /**
+     * Appends one batch to the end of a playlist, retrying server and connection errors; 429s are retried
+     * by the rate governor. An append is not idempotent: a request that may have reached Spotify (a 5xx, or a
+     * connection lost after sending) is only posted again if the batch has not landed, see {@link #batchLanded}.
+     */
+    private Mono<Void> appendBatch(String playlistId, List<String> batch, Integer base, String accessToken, int attempt) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("uris", batch);
+        
+        return webClient.post()
+                .uri("/playlists/{playlist_id}/tracks", playlistId)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .body(BodyInserters.fromValue(requestBody))
+                .retrieve()
+                .bodyToMono(SpotifySnapshotResponse.class)
+                .doOnNext(response -> log.debug("Added batch of {} tracks to playlist", batch.size()))
+                .then()
+                .onErrorResume(e -> attempt < writeRetries && isRetryableWrite(e), e -> {
+                    retriedBatches.increment();
+                    log.warn("Retrying batch of {} tracks for playlist {}: {}", batch.size(), playlistId, e.getMessage());
+                    Mono<Void> retry = appendBatch(playlistId, batch, base, accessToken, attempt + 1);
+                    Mono<Void> retryIfMissing = isUnsent(e) ? retry : batchLanded(playlistId, batch, base, accessToken)
+                            .flatMap(landed -> {
+                                if (landed) {
+                                    log.info("Batch of {} tracks reached playlist {} despite the error; not posting it again",
+                                            batch.size(), playlistId);
+                                    return Mono.<Void>empty();
+                                }
+                                return retry;
+                            });
+                    return Mono.delay(WRITE_RETRY_BACKOFF.multipliedBy(1L << attempt)).then(retryIfMissing);
+                });
+    }
+    
+    /**
+     * Whether {@code batch} is among the playlist items after position {@code base}. Without a base the batch was
+     * posted on its own, so it landed if the playlist ends with it.
+     */
+    private Mono<Boolean> batchLanded(String playlistId, List<String> batch, Integer base, String accessToken) {
+        return playlistVersion(playlistId, accessToken).flatMap(version -> {
+            int from = base != null ? base : version.total() - batch.size();
+            return from < 0 || version.total() - from < batch.size()
+                    ? Mono.just(false)
+                    : playlistUris(playlistId, from, version.total() - from, accessToken)
+                            .map(appended -> Collections.indexOfSubList(appended, batch) >= 0);
+        });
+    }
+    
+    private Retry writeRetry(String playlistId, int tracks) {
+        return Retry.backoff(writeRetries, WRITE_RETRY_BACKOFF)
+                .filter(SpotifyService::isRetryableWrite)
+                .doBeforeRetry(signal -> {
+                    retriedBatches.increment();
+                    log.warn("Retrying batch of {} tracks for playlist {}: {}",
+                            tracks, playlistId, signal.failure().getMessage());
+                })
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+    
+    private static boolean isRetryableWrite(Throwable e) {
+        return e instanceof WebClientRequestException
+                || e instanceof WebClientResponseException response && response.getStatusCode().is5xxServerError();
+    }
+    
+    /**
+     * Whether a write failed before its request was sent, so Spotify cannot have applied it
+     */
+    private static boolean isUnsent(Throwable e) {
+        for (Throwable cause = e.getCause(); e instanceof WebClientRequestException && cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException || cause instanceof UnknownHostException) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Puts the batches appended after position {@code base} back in their original order. Every move is
+     * pinned to the snapshot it was computed from, so Spotify applies it to that version of the playlist
+     * even if it has changed since. A playlist that no longer holds exactly the appended batches there is
+     * left as it is.
+     *
+     * @return whether the batches are in their original order; false when that could not be verified or
+     *         a move failed. The tracks have landed either way, so this never fails.
+     */
+    private Mono<Boolean> restoreOrder(String playlistId, List<List<String>> batches, int base, int appended,
+                                       String accessToken) {
+        return playlistVersion(playlistId, accessToken).flatMap(after -> {
+            if (after.total() - base != appended) {
+                log.warn("Playlist {} grew by {} tracks instead of {}; track order not verified",
+                        playlistId, after.total() - base, appended);
+                return Mono.just(false);
+            }
+            return playlistUris(playlistId, base, appended, accessToken).flatMap(landed -> {
+                List<Integer> order = landingOrder(batches, landed);
+                if (order == null) {
+                    log.warn("Playlist {} changed while tracks were added; track order not verified", playlistId);
+                    return Mono.just(false);
+                }
+                Mono<String> snapshot = Mono.just(after.snapshotId());
+                for (PlaylistMove move : moves(batches, order)) {
+                    snapshot = snapshot.flatMap(snapshotId -> moveRange(playlistId, base, move, snapshotId, accessToken));
+                }
+                return snapshot.then(Mono.just(true));
+            });
+        }).onErrorResume(e -> {
+            log.warn("Could not restore track order of playlist {}: {}", playlistId, e.getMessage());
+            return Mono.just(false);
+        });
+    }
+    
+    private Mono<SpotifyPlaylistVersionResponse> playlistVersion(String playlistId, String accessToken) {
+        return webClient.get()
+                .uri("/playlists/{playlist_id}?fields=snapshot_id,tracks(total)", playlistId)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .retrieve()
+                .bodyToMono(SpotifyPlaylistVersionResponse.class);
+    }
+    
+    /**
+     * URIs of {@code count} playlist items from position {@code offset}. All pages are requested at once, so
+     * the read-back costs one round-trip; the rate governor still paces them.
+     */
+    private Mono<List<String>> playlistUris(String playlistId, int offset, int count, String accessToken) {
+        int pages = (count + PLAYLIST_BATCH_SIZE - 1) / PLAYLIST_BATCH_SIZE;
+        return Flux.range(0, pages)
+                .flatMapSequential(page -> webClient.get()
+                        .uri("/playlists/{playlist_id}/tracks?fields=items(track(uri))&offset={offset}&limit={limit}",
+                                playlistId, offset + page * PLAYLIST_BATCH_SIZE, PLAYLIST_BATCH_SIZE)
                         .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                        .body(BodyInserters.fromValue(requestBody))
                         .retrieve()
-                        .bodyToMono(JsonNode.class)
-                        .block();
-                
-                log.debug("Added batch of {} tracks to playlist", batch.size());
+                        .bodyToMono(SpotifyPlaylistItemsResponse.class), Math.max(1, pages))
+                .concatMapIterable(SpotifyPlaylistItemsResponse::items)
+                .map(item -> item.track() != null && item.track().uri() != null ? item.track().uri() : "")
+                .collectList();
+    }
+    
+    private Mono<String> moveRange(String playlistId, int base, PlaylistMove move, String snapshotId, String accessToken) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("range_start", base + move.rangeStart());
+        requestBody.put("range_length", move.rangeLength());
+        requestBody.put("insert_before", base + move.insertBefore());
+        requestBody.put("snapshot_id", snapshotId);
+        
+        reorderedBatches.increment();
+        return webClient.put()
+                .uri("/playlists/{playlist_id}/tracks", playlistId)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .body(BodyInserters.fromValue(requestBody))
+                .retrieve()
+                .bodyToMono(SpotifySnapshotResponse.class)
+                .map(SpotifySnapshotResponse::snapshotId);
+    }
+    
+    /**
+     * Indexes of {@code batches} in the order they appear in {@code landed}, or null if {@code landed}
+     * is not made of exactly those batches
+     */
+    static List<Integer> landingOrder(List<List<String>> batches, List<String> landed) {
+        List<Integer> order = new ArrayList<>();
+        boolean[] placed = new boolean[batches.size()];
+        int offset = 0;
+        while (offset < landed.size()) {
+            int found = -1;
+            for (int i = 0; i < batches.size() && found < 0; i++) {
+                List<String> batch = batches.get(i);
+                if (!placed[i] && offset + batch.size() <= landed.size()
+                        && batch.equals(landed.subList(offset, offset + batch.size()))) {
+                    found = i;
+                }
             }
-            
-            log.info("Successfully added all tracks to playlist: {}", playlistId);
-            return true;
-            
-        } catch (WebClientResponseException e) {
-            log.error("Error adding tracks to Spotify playlist: {}", e.getMessage());
-            return false;
+            if (found < 0) {
+                return null;
+            }
+            placed[found] = true;
+            order.add(found);
+            offset += batches.get(found).size();
+        }
+        return order.size() == batches.size() ? order : null;
+    }
+    
+    /**
+     * Range moves that turn the batches from landing order into index order, positions relative to the first
+     * appended item. The longest run of batches already in increasing order stays where it is and every other
+     * batch is moved in behind the batch before it, which takes the fewest moves.
+     */
+    static List<PlaylistMove> moves(List<List<String>> batches, List<Integer> order) {
+        boolean[] staying = longestIncreasing(order);
+        List<Integer> current = new ArrayList<>(order);
+        List<PlaylistMove> moves = new ArrayList<>();
+        for (int target = 0; target < current.size(); target++) {
+            int at = current.indexOf(target);
+            int to = target == 0 ? 0 : current.indexOf(target - 1) + 1;
+            if (staying[target] || at == to) {
+                continue;
+            }
+            moves.add(new PlaylistMove(offsetOf(batches, current, at), batches.get(target).size(),
+                    offsetOf(batches, current, to)));
+            current.remove(at);
+            current.add(at < to ? to - 1 : to, target);
+        }
+        return moves;
+    }
+    
+    /**
+     * The batches of a longest increasing subsequence of {@code order}, indexed by batch
+     */
+    private static boolean[] longestIncreasing(List<Integer> order) {
+        int[] length = new int[order.size()];
+        int[] previous = new int[order.size()];
+        int end = -1;
+        for (int i = 0; i < order.size(); i++) {
+            length[i] = 1;
+            previous[i] = -1;
+            for (int j = 0; j < i; j++) {
+                if (order.get(j) < order.get(i) && length[j] + 1 > length[i]) {
+                    length[i] = length[j] + 1;
+                    previous[i] = j;
+                }
+            }
+            if (end < 0 || length[i] > length[end]) {
+                end = i;
+            }
+        }
+        boolean[] staying = new boolean[order.size()];
+        for (int i = end; i >= 0; i = previous[i]) {
+            staying[order.get(i)] = true;
+        }
+        return staying;
+    }
+    
+    private static int offsetOf(List<List<String>> batches, List<Integer> current, int index) {
+        int offset = 0;
+        for (int i = 0; i < index; i++) {
+            offset += batches.get(current.get(i)).size();
+        }
+        return offset;
+    }
+    
+    /**
+     * One Spotify reorder: {@code rangeLength} items from {@code rangeStart} are moved before {@code insertBefore}
+     */
+    record PlaylistMove(int rangeStart, int rangeLength, int insertBefore) {}
+    
+    /**
+     * Removes every occurrence of the given tracks from a Spotify playlist, 100 per request; emits false if a
+     * batch still fails after its retries. Removing a track that is not in the playlist is a no-op.
+     */
+    public Mono<Boolean> removeTracksFromPlaylistReactive(String playlistId, List<String> trackUris, String accessToken) {
+        log.info("Removing {} tracks from Spotify playlist: {}", trackUris.size(), playlistId);
+        
+        List<List<String>> batches = new ArrayList<>();
+        for (int i = 0; i < trackUris.size(); i += PLAYLIST_BATCH_SIZE) {
+            batches.add(trackUris.subList(i, Math.min(i + PLAYLIST_BATCH_SIZE, trackUris.size())));
         }
+        
+        // Removals do not depend on order, so batches go out concurrently
+        return Flux.fromIterable(batches)
+                .flatMap(batch -> {
+                    List<Map<String, String>> tracks = new ArrayList<>();
+                    for (String uri : batch) {
+                        tracks.add(Map.of("uri", uri));
+                    }
+                    return webClient.method(HttpMethod.DELETE)
+                            .uri("/playlists/{playlist_id}/tracks", playlistId)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                            .body(BodyInserters.fromValue(Map.of("tracks", tracks)))
+                            .retrieve()
+                            .bodyToMono(SpotifySnapshotResponse.class)
+                            .retryWhen(writeRetry(playlistId, batch.size()));
+                }, writeConcurrency)
+                .then(Mono.just(true))
+                .onErrorResume(WebClientResponseException.class, e -> {
+                    log.error("Error removing tracks from Spotify playlist: {}", e.getMessage());
+                    return Mono.just(false);
+                });
     }
     
     /**
@@ -178,29 +687,15 @@ public class SpotifyService {
     public String prepareSearchQuery(String youtubeTitle) {
         if (youtubeTitle == null) return "";
         
-        // Remove common YouTube decorations and clean up
-        String cleaned = youtubeTitle
-                .replaceAll("\\s*\\(Official\\s+Video\\)", "")
-                .replaceAll("\\s*\\(Official\\s+Music\\s+Video\\)", "")
-                .replaceAll("\\s*\\(Official\\s+Audio\\)", "")
-                .replaceAll("\\s*\\[Official\\s+Video\\]", "")
-                .replaceAll("\\s*\\[Official\\s+Music\\s+Video\\]", "")
-                .replaceAll("\\s*\\[Official\\s+Audio\\]", "")
-                .replaceAll("\\s*\\(HD\\)", "")
-                .replaceAll("\\s*\\[HD\\]", "")
-                .replaceAll("\\s*\\(4K\\)", "")
-                .replaceAll("\\s*\\[4K\\]", "")
-                .replaceAll("\\s*\\(Lyrics\\)", "")
-                .replaceAll("\\s*\\[Lyrics\\]", "")
-                .replaceAll("\\s*-\\s*Topic", "") // Remove YouTube auto-generated topic channels
-                .trim();
+        // Remove common YouTube decorations and topic channel suffixes in one pass
+        String cleaned = TitleNormalizer.SEARCH_QUERY.normalize(youtubeTitle);
         
         // Extract artist and song if format is "Artist - Song"
-        if (cleaned.contains(" - ")) {
-            String[] parts = cleaned.split(" - ", 2);
-            if (parts.length == 2) {
-                return parts[1].trim() + " " + parts[0].trim(); // "Song Artist" format works better for Spotify search
-            }
+        int separator = cleaned.indexOf(" - ");
+        if (separator >= 0) {
+            String artist = cleaned.substring(0, separator).trim();
+            String song = cleaned.substring(separator + 3).trim();
+            return song + " " + artist; // "Song Artist" format works better for Spotify search
         }
         
         return cleaned;
@@ -0,0 +1,195 @@
+package com.playlist.converter.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single-pass remover for the decoration tokens YouTube uploaders add to video titles.
+ *
+ * Rules are plain strings such as {@code "(Official Music Video)"}: the first character opens the
+ * decoration, an optional closing bracket ends it, and single spaces between words match one or more
+ * whitespace characters. Whitespace directly before a decoration is removed with it, and the result is
+ * trimmed, matching the {@code replaceAll("\\s*\\(Official\\s+Video\\)", "")...trim()} chains this
+ * class replaces. Titles without decorations are returned without copying.
+ */
+public final class TitleNormalizer {
+
+    /**
+     * Decorations stripped from YouTube video titles
+     */
+    public static final List<String> DECORATION_RULES = List.of(
+            "(Official Video)",
+            "(Official Music Video)",
+            "(Official Audio)",
+            "[Official Video]",
+            "[Official Music Video]",
+            "[Official Audio]",
+            "(HD)",
+            "[HD]",
+            "(4K)",
+            "[4K]",
+            "(Lyrics)",
+            "[Lyrics]"
+    );
+
+    /**
+     * Suffix of YouTube auto-generated topic channels, e.g. "Artist - Topic"
+     */
+    public static final String TOPIC_RULE = "- Topic";
+
+    /**
+     * Normalizer used for cleaning video titles
+     */
+    public static final TitleNormalizer VIDEO_TITLE = new TitleNormalizer(DECORATION_RULES);
+
+    /**
+     * Normalizer used for Spotify search queries; also drops topic channel suffixes
+     */
+    public static final TitleNormalizer SEARCH_QUERY = new TitleNormalizer(withTopicRule());
+
+    private final Rule[] rules;
+    private final String openers;
+
+    public TitleNormalizer(List<String> ruleSpecs) {
+        this.rules = new Rule[ruleSpecs.size()];
+        StringBuilder openerChars = new StringBuilder();
+        for (int i = 0; i < rules.length; i++) {
+            rules[i] = Rule.parse(ruleSpecs.get(i));
+            if (openerChars.indexOf(String.valueOf(rules[i].open)) < 0) {
+                openerChars.append(rules[i].open);
+            }
+        }
+        this.openers = openerChars.toString();
+    }
+
+    /**
+     * Removes every decoration from the title and trims the result
+     */
+    public String normalize(String title) {
+        if (title == null) return "";
+
+        int length = title.length();
+        StringBuilder out = null;
+        int copied = 0; // title[0, copied) has been handled
+
+        for (int i = 0; i < length; i++) {
+            char c = title.charAt(i);
+            if (openers.indexOf(c) < 0) {
+                continue;
+            }
+
+            int end = matchAt(title, i);
+            if (end < 0) {
+                continue;
+            }
+
+            int start = i;
+            while (start > copied && isWhitespace(title.charAt(start - 1))) {
+                start--;
+            }
+
+            if (out == null) {
+                out = new StringBuilder(length);
+            }
+            out.append(title, copied, start);
+            copied = end;
+            i = end - 1;
+        }
+
+        if (out == null) {
+            return title.trim();
+        }
+
+        out.append(title, copied, length);
+        int from = 0;
+        int to = out.length();
+        while (from < to && out.charAt(from) <= ' ') from++;
+        while (to > from && out.charAt(to - 1) <= ' ') to--;
+        return out.substring(from, to);
+    }
+
+    /**
+     * Returns the end index of the first rule matching at {@code index}, or -1
+     */
+    private int matchAt(String title, int index) {
+        char open = title.charAt(index);
+        for (Rule rule : rules) {
+            if (rule.open == open) {
+                int end = rule.match(title, index);
+                if (end >= 0) {
+                    return end;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Whitespace as matched by the regex class {@code \s}
+     */
+    static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static List<String> withTopicRule() {
+        List<String> rules = new ArrayList<>(DECORATION_RULES);
+        rules.add(TOPIC_RULE);
+        return rules;
+    }
+
+    /**
+     * A compiled decoration rule
+     */
+    private static final class Rule {
+
+        private final char open;
+        private final boolean spaceAfterOpen;
+        private final String[] words;
+        private final char close; // 0 when the rule ends with its last word
+
+        private Rule(char open, boolean spaceAfterOpen, String[] words, char close) {
+            this.open = open;
+            this.spaceAfterOpen = spaceAfterOpen;
+            this.words = words;
+            this.close = close;
+        }
+
+        static Rule parse(String spec) {
+            char last = spec.charAt(spec.length() - 1);
+            char close = (last == ')' || last == ']') ? last : 0;
+            String inner = spec.substring(1, close == 0 ? spec.length() : spec.length() - 1);
+            return new Rule(spec.charAt(0), inner.startsWith(" "), inner.trim().split(" "), close);
+        }
+
+        /**
+         * Returns the index just past the decoration starting at {@code index}, or -1
+         */
+        int match(String title, int index) {
+            int length = title.length();
+            int pos = index + 1;
+
+            for (int w = 0; w < words.length; w++) {
+                if (w > 0 || spaceAfterOpen) {
+                    int spaceStart = pos;
+                    while (pos < length && isWhitespace(title.charAt(pos))) pos++;
+                    if (w > 0 && pos == spaceStart) {
+                        return -1;
+                    }
+                }
+                String word = words[w];
+                if (!title.startsWith(word, pos)) {
+                    return -1;
+                }
+                pos += word.length();
+            }
+
+            if (close != 0) {
+                if (pos >= length || title.charAt(pos) != close) {
+                    return -1;
+                }
+                pos++;
+            }
+            return pos;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.playlist.converter.service;
+
+import com.playlist.converter.model.Track;
+import com.playlist.converter.model.TrackMatchCacheEntry;
+import com.playlist.converter.repository.TrackMatchCacheRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Two-tier cache of YouTube video → Spotify track matches.
+ * A bounded LRU map sits in front of the track_match_cache table; failed matches are cached
+ * with a shorter TTL so they are retried once Spotify's catalogue had a chance to change.
+ */
+@Service
+public class TrackMatchCache {
+
+    private static final Logger log = LoggerFactory.getLogger(TrackMatchCache.class);
+
+    private final TrackMatchCacheRepository repository;
+    private final int maxEntries;
+    private final Duration matchTtl;
+    private final Duration negativeTtl;
+    private final Map<String, CachedMatch> memory;
+
+    private final Counter memoryHits;
+    private final Counter databaseHits;
+    private final Counter misses;
+
+    public TrackMatchCache(TrackMatchCacheRepository repository, MeterRegistry meterRegistry,
+                           @Value("${app.match-cache.max-entries:10000}") int maxEntries,
+                           @Value("${app.match-cache.ttl-hours:720}") long ttlHours,
+                           @Value("${app.match-cache.negative-ttl-hours:24}") long negativeTtlHours) {
+        this.repository = repository;
+        this.maxEntries = maxEntries;
+        this.matchTtl = Duration.ofHours(ttlHours);
+        this.negativeTtl = Duration.ofHours(negativeTtlHours);
+        this.memory = Collections.synchronizedMap(new LinkedHashMap<String, CachedMatch>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedMatch> eldest) {
+                return size() > TrackMatchCache.this.maxEntries;
+            }
+        });
+
+        this.memoryHits = Counter.builder("track.match.cache.requests")
+                .description("Match cache lookups")
+                .tag("result", "hit")
+                .tag("tier", "memory")
+                .register(meterRegistry);
+        this.databaseHits = Counter.builder("track.match.cache.requests")
+                .description("Match cache lookups")
+                .tag("result", "hit")
+                .tag("tier", "database")
+                .register(meterRegistry);
+        this.misses = Counter.builder("track.match.cache.requests")
+                .description("Match cache lookups")
+                .tag("result", "miss")
+                .tag("tier", "none")
+                .register(meterRegistry);
+        Gauge.builder("track.match.cache.hit.ratio", this, TrackMatchCache::getHitRatio)
+                .description("Share of lookups that saved a Spotify search")
+                .register(meterRegistry);
+        Gauge.builder("track.match.cache.size", memory, Map::size)
+                .description("Entries held in the in-memory tier")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Looks up the cached match for a video, or returns null when the video has to be searched
+     */
+    public CachedMatch get(String videoId) {
+        if (videoId == null) {
+            return null;
+        }
+
+        CachedMatch cached = memory.get(videoId);
+        if (cached != null) {
+            if (!cached.isExpired()) {
+                memoryHits.increment();
+                return cached;
+            }
+            memory.remove(videoId);
+        }
+
+        CachedMatch stored = repository.findById(videoId)
+                .map(this::toCachedMatch)
+                .filter(match -> !match.isExpired())
+                .orElse(null);
+
+        if (stored == null) {
+            misses.increment();
+            return null;
+        }
+
+        memory.put(videoId, stored);
+        databaseHits.increment();
+        return stored;
+    }
+
+    /**
+     * Records the search outcome for a video; a null track records a failed match
+     */
+    public void put(String videoId, Track spotifyTrack) {
+        if (videoId == null) {
+            return;
+        }
+
+        TrackMatchCacheEntry entry = TrackMatchCacheEntry.of(videoId, spotifyTrack);
+        memory.put(videoId, toCachedMatch(entry));
+
+        try {
+            repository.save(entry);
+        } catch (DataAccessException e) {
+            // Another conversion stored the same video concurrently; the in-memory tier is still updated
+            log.debug("Could not persist match cache entry for video {}: {}", videoId, e.getMessage());
+        }
+    }
+
+    /**
+     * Share of lookups answered from either tier
+     */
+    public double getHitRatio() {
+        double hits = memoryHits.count() + databaseHits.count();
+        double total = hits + misses.count();
+        return total == 0 ? 0.0 : hits / total;
+    }
+
+    private CachedMatch toCachedMatch(TrackMatchCacheEntry entry) {
+        Duration ttl = entry.isMatched() ? matchTtl : negativeTtl;
+        return new CachedMatch(entry.toTrack(), entry.getCachedAt().plus(ttl));
+    }
+
+    /**
+     * A cached search outcome; the track is null for videos that recently failed to match
+     */
+    public static final class CachedMatch {
+
+        private final Track track;
+        private final LocalDateTime expiresAt;
+
+        CachedMatch(Track track, LocalDateTime expiresAt) {
+            this.track = track;
+            this.expiresAt = expiresAt;
+        }
+
+        public boolean isMatched() {
+            return track != null;
+        }
+
+        public Track getTrack() {
+            return track;
+        }
+
+        boolean isExpired() {
+            return LocalDateTime.now().isAfter(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.playlist.converter.service;
+
+import com.playlist.converter.model.Track;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Scores Spotify search candidates against the YouTube track they should match.
+ *
+ * The score is in [0, 1] and combines token overlap between the search query and the candidate's
+ * title and artist with, when the YouTube duration is known, how close the two durations are.
+ * Tokens are case-insensitive runs of letters and digits; filler such as "feat" or "official" is ignored.
+ */
+public final class TrackMatchScorer {
+
+    // Words that say nothing about which recording a title refers to
+    private static final Set<String> IGNORED_TOKENS = Set.of(
+            "feat", "ft", "featuring", "official", "video", "audio", "music", "lyric", "lyrics", "mv", "hd");
+
+    // Durations this close count as identical; the score falls to zero at the upper bound
+    private static final long DURATION_EXACT_MS = 10_000;
+    private static final long DURATION_MAX_DIFF_MS = 60_000;
+
+    private TrackMatchScorer() {}
+
+    /**
+     * Returns a copy of the best scoring candidate with its confidence set, or null when there are no candidates.
+     * Candidates themselves are not modified, so they can be shared between callers.
+     *
+     * @param expectedDurationMs duration of the YouTube video, or null when unknown
+     */
+    public static Track best(String query, Long expectedDurationMs, List<Track> candidates) {
+        Set<String> queryTokens = tokens(query);
+        Track best = null;
+        double bestScore = -1;
+        // Candidates arrive in Spotify's relevance order, so ties keep the earlier one
+        for (Track candidate : candidates) {
+            double score = score(queryTokens, expectedDurationMs, candidate);
+            if (score > bestScore) {
+                best = candidate;
+                bestScore = score;
+            }
+        }
+        if (best == null) {
+            return null;
+        }
+        Track match = new Track(best.getId(), best.getTitle(), best.getArtist(), best.getAlbum(),
+                best.getDurationMs(), best.getExternalUrl(), best.getSource());
+        match.setMatchConfidence(bestScore);
+        return match;
+    }
+
+    /**
+     * Scores one candidate against the query tokens
+     */
+    static double score(Set<String> queryTokens, Long expectedDurationMs, Track candidate) {
+        Set<String> titleTokens = tokens(candidate.getTitle());
+        Set<String> artistTokens = tokens(candidate.getArtist());
+
+        Set<String> candidateTokens = new HashSet<>(titleTokens);
+        candidateTokens.addAll(artistTokens);
+
+        double text = 0.5 * coverage(titleTokens, queryTokens)
+                + 0.3 * coverage(artistTokens, queryTokens)
+                + 0.2 * coverage(queryTokens, candidateTokens);
+
+        if (expectedDurationMs == null || expectedDurationMs <= 0
+                || candidate.getDurationMs() == null || candidate.getDurationMs() <= 0) {
+            return text;
+        }
+        long diff = Math.abs(expectedDurationMs - candidate.getDurationMs());
+        double duration = diff <= DURATION_EXACT_MS ? 1.0
+                : Math.max(0, 1.0 - (double) (diff - DURATION_EXACT_MS) / (DURATION_MAX_DIFF_MS - DURATION_EXACT_MS));
+        return 0.8 * text + 0.2 * duration;
+    }
+
+    /**
+     * Share of {@code tokens} that also appear in {@code in}
+     */
+    private static double coverage(Set<String> tokens, Set<String> in) {
+        if (tokens.isEmpty()) {
+            return 0;
+        }
+        int found = 0;
+        for (String token : tokens) {
+            if (in.contains(token)) {
+                found++;
+            }
+        }
+        return (double) found / tokens.size();
+    }
+
+    /**
+     * Lower-cased runs of letters and digits, without ignored filler words
+     */
+    static Set<String> tokens(String text) {
+        Set<String> tokens = new HashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String token = lower.substring(start, i);
+                if (!IGNORED_TOKENS.contains(token)) {
+                    tokens.add(token);
+                }
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
@@ -1,6 +1,8 @@
 package com.playlist.converter.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.playlist.converter.dto.youtube.YouTubePlaylistItemListResponse;
+import com.playlist.converter.dto.youtube.YouTubePlaylistListResponse;
+import com.playlist.converter.dto.youtube.YouTubeVideoListResponse;
 import com.playlist.converter.model.Playlist;
 import com.playlist.converter.model.Track;
 import org.slf4j.Logger;
@@ -10,9 +12,16 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 /**
  * Service for interacting with YouTube Data API v3
@@ -22,116 +31,256 @@ public class YouTubeService {
     
     private static final Logger log = LoggerFactory.getLogger(YouTubeService.class);
     
+    // Suffix of auto-generated "Artist - Topic" channels, whose uploads carry the artist in the channel name
+    private static final String TOPIC_CHANNEL_SUFFIX = " - Topic";
+    
     private final WebClient webClient;
     private final String apiKey;
+    private final boolean enrichMetadata;
     
     public YouTubeService(@Qualifier("youtubeWebClient") WebClient webClient,
-                         @Value("${youtube.api.key}") String apiKey) {
+                         @Value("${youtube.api.key}") String apiKey,
+                         @Value("${app.youtube.enrich-metadata:true}") boolean enrichMetadata) {
         this.webClient = webClient;
         this.apiKey = apiKey;
+        this.enrichMetadata = enrichMetadata;
     }
     
     /**
      * Fetches playlist information from YouTube
      */
     public Playlist getPlaylistInfo(String playlistId) {
-        try {
-            log.info("Fetching YouTube playlist info for ID: {}", playlistId);
-            
-            JsonNode response = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/playlists")
-                            .queryParam("part", "snippet,contentDetails")
-                            .queryParam("id", playlistId)
-                            .queryParam("key", apiKey)
-                            .build())
-                    .retrieve()
-                    .bodyToMono(JsonNode.class)
-                    .block();
-            
-            if (response == null || !response.has("items") || response.get("items").size() == 0) {
-                throw new RuntimeException("Playlist not found or is private");
-            }
-            
-            JsonNode playlistItem = response.get("items").get(0);
-            JsonNode snippet = playlistItem.get("snippet");
-            JsonNode contentDetails = playlistItem.get("contentDetails");
-            
-            return Playlist.fromYouTube(
-                    playlistId,
-                    snippet.get("title").asText(),
-                    snippet.get("channelTitle").asText(),
-                    contentDetails.get("itemCount").asInt()
-            );
-            
-        } catch (WebClientResponseException e) {
-            log.error("Error fetching YouTube playlist info: {}", e.getMessage());
-            throw new RuntimeException("Failed to fetch YouTube playlist: " + e.getMessage());
-        }
+        return getPlaylistInfoReactive(playlistId).block();
+    }
+    
+    /**
+     * Non-blocking variant of {@link #getPlaylistInfo}
+     */
+    public Mono<Playlist> getPlaylistInfoReactive(String playlistId) {
+        log.info("Fetching YouTube playlist info for ID: {}", playlistId);
+        
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/playlists")
+                        .queryParam("part", "snippet,contentDetails")
+                        .queryParam("id", playlistId)
+                        .queryParam("key", apiKey)
+                        .build())
+                .retrieve()
+                .bodyToMono(YouTubePlaylistListResponse.class)
+                .filter(response -> response.items() != null && !response.items().isEmpty())
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Playlist not found or is private")))
+                .map(response -> {
+                    YouTubePlaylistListResponse.Item playlistItem = response.items().get(0);
+                    
+                    return Playlist.fromYouTube(
+                            playlistId,
+                            playlistItem.snippet().title(),
+                            playlistItem.snippet().channelTitle(),
+                            playlistItem.contentDetails().itemCount()
+                    );
+                })
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("Error fetching YouTube playlist info: {}", e.getMessage());
+                    return new RuntimeException("Failed to fetch YouTube playlist: " + e.getMessage());
+                });
     }
     
     /**
      * Fetches all videos from a YouTube playlist
      */
     public List<Track> getPlaylistTracks(String playlistId) {
-        List<Track> tracks = new ArrayList<>();
-        String pageToken = null;
+        List<Track> tracks = streamPlaylistTracks(playlistId).collectList().block();
+        log.info("Successfully fetched {} tracks from YouTube playlist", tracks.size());
+        return tracks;
+    }
+    
+    /**
+     * Streams the videos of a YouTube playlist page by page; the non-blocking variant of
+     * {@link #getPlaylistTracks}.
+     * The next page is requested as soon as the current one arrives, so fetching overlaps with
+     * downstream processing while at most a couple of pages are buffered. Each page is enriched
+     * with duration, channel and category from a single {@code /videos} call.
+     */
+    public Flux<Track> streamPlaylistTracks(String playlistId) {
+        return streamPlaylistTracks(playlistId, videoId -> true);
+    }
+    
+    /**
+     * Variant of {@link #streamPlaylistTracks(String)} that only enriches the videos {@code enrich} accepts;
+     * the others are emitted with ID and title only. A sync reads the membership of a playlist this way
+     * without paying for details of videos it has already converted.
+     */
+    public Flux<Track> streamPlaylistTracks(String playlistId, Predicate<String> enrich) {
+        log.info("Fetching tracks from YouTube playlist: {}", playlistId);
         
-        try {
-            log.info("Fetching tracks from YouTube playlist: {}", playlistId);
-            
-            do {
-                final String currentPageToken = pageToken;
-                JsonNode response = webClient.get()
-                        .uri(uriBuilder -> {
-                            var builder = uriBuilder
-                                    .path("/playlistItems")
-                                    .queryParam("part", "snippet")
-                                    .queryParam("playlistId", playlistId)
-                                    .queryParam("maxResults", 50)
-                                    .queryParam("key", apiKey);
-                            
-                            if (currentPageToken != null) {
-                                builder.queryParam("pageToken", currentPageToken);
-                            }
-                            
-                            return builder.build();
-                        })
-                        .retrieve()
-                        .bodyToMono(JsonNode.class)
-                        .block();
-                
-                if (response == null || !response.has("items")) {
-                    break;
-                }
-                
-                for (JsonNode item : response.get("items")) {
-                    JsonNode snippet = item.get("snippet");
+        return fetchTracksPage(playlistId, null)
+                .expand(page -> page.nextPageToken() != null
+                        ? fetchTracksPage(playlistId, page.nextPageToken())
+                        : Mono.empty())
+                .flatMapSequential(page -> enrichTracks(page.tracks(), enrich), 2)
+                .flatMapIterable(tracks -> tracks, 2)
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("Error fetching YouTube playlist tracks: {}", e.getMessage());
+                    return new RuntimeException("Failed to fetch YouTube playlist tracks: " + e.getMessage());
+                });
+    }
+    
+    /**
+     * Fetches a single 50-item page of playlist videos
+     */
+    private Mono<TracksPage> fetchTracksPage(String playlistId, String pageToken) {
+        return webClient.get()
+                .uri(uriBuilder -> {
+                    var builder = uriBuilder
+                            .path("/playlistItems")
+                            .queryParam("part", "snippet")
+                            .queryParam("playlistId", playlistId)
+                            .queryParam("maxResults", 50)
+                            .queryParam("key", apiKey);
                     
-                    // Skip deleted or private videos
-                    if (snippet.has("title") && !snippet.get("title").asText().equals("Deleted video") &&
-                        !snippet.get("title").asText().equals("Private video")) {
-                        
-                        String videoId = snippet.get("resourceId").get("videoId").asText();
-                        String title = snippet.get("title").asText();
-                        
-                        tracks.add(Track.fromYouTube(videoId, title));
+                    if (pageToken != null) {
+                        builder.queryParam("pageToken", pageToken);
                     }
-                }
-                
-                pageToken = response.has("nextPageToken") ? response.get("nextPageToken").asText() : null;
+                    
+                    return builder.build();
+                })
+                .retrieve()
+                .bodyToMono(YouTubePlaylistItemListResponse.class)
+                .map(this::toTracksPage)
+                .defaultIfEmpty(TracksPage.EMPTY);
+    }
+    
+    private TracksPage toTracksPage(YouTubePlaylistItemListResponse response) {
+        if (response.items() == null) {
+            return TracksPage.EMPTY;
+        }
+        
+        List<Track> tracks = new ArrayList<>();
+        for (YouTubePlaylistItemListResponse.Item item : response.items()) {
+            YouTubePlaylistItemListResponse.Snippet snippet = item.snippet();
+            
+            // Skip deleted or private videos
+            if (snippet != null && snippet.title() != null && !snippet.title().equals("Deleted video") &&
+                !snippet.title().equals("Private video") && snippet.resourceId() != null) {
                 
-            } while (pageToken != null);
+                tracks.add(Track.fromYouTube(snippet.resourceId().videoId(), snippet.title()));
+            }
+        }
+        
+        return new TracksPage(tracks, response.nextPageToken());
+    }
+    
+    private Mono<List<Track>> enrichTracks(List<Track> tracks, Predicate<String> enrich) {
+        List<Track> selected = new ArrayList<>();
+        for (Track track : tracks) {
+            if (enrich.test(track.getId())) {
+                selected.add(track);
+            }
+        }
+        // Details are set on the selected Track instances, which are also in the page
+        return enrichTracks(selected).thenReturn(tracks);
+    }
+    
+    /**
+     * Adds duration, channel, category and topics to up to 50 tracks with one {@code /videos} request.
+     * Enrichment is best effort: on failure the tracks are passed on as they are.
+     */
+    Mono<List<Track>> enrichTracks(List<Track> tracks) {
+        if (!enrichMetadata || tracks.isEmpty()) {
+            return Mono.just(tracks);
+        }
+        
+        StringBuilder ids = new StringBuilder();
+        for (Track track : tracks) {
+            if (ids.length() > 0) {
+                ids.append(',');
+            }
+            ids.append(track.getId());
+        }
+        
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/videos")
+                        .queryParam("part", "snippet,contentDetails,topicDetails")
+                        .queryParam("id", ids.toString())
+                        .queryParam("key", apiKey)
+                        .build())
+                .retrieve()
+                .bodyToMono(YouTubeVideoListResponse.class)
+                .map(response -> {
+                    applyVideoDetails(tracks, response);
+                    return tracks;
+                })
+                .defaultIfEmpty(tracks)
+                .onErrorResume(e -> {
+                    log.warn("Could not fetch YouTube video details, matching on titles only: {}", e.getMessage());
+                    return Mono.just(tracks);
+                });
+    }
+    
+    static void applyVideoDetails(List<Track> tracks, YouTubeVideoListResponse response) {
+        if (response.items() == null) {
+            return;
+        }
+        
+        Map<String, YouTubeVideoListResponse.Video> videos = new HashMap<>();
+        for (YouTubeVideoListResponse.Video video : response.items()) {
+            videos.put(video.id(), video);
+        }
+        
+        for (Track track : tracks) {
+            YouTubeVideoListResponse.Video video = videos.get(track.getId());
+            if (video == null) {
+                continue;
+            }
+            
+            if (video.contentDetails() != null) {
+                track.setDurationMs(parseDurationMs(video.contentDetails().duration()));
+            }
+            if (video.snippet() != null) {
+                track.setChannelTitle(video.snippet().channelTitle());
+                track.setCategoryId(video.snippet().categoryId());
+            }
             
-            log.info("Successfully fetched {} tracks from YouTube playlist", tracks.size());
-            return tracks;
+            List<String> topics = new ArrayList<>();
+            if (video.topicDetails() != null && video.topicDetails().topicCategories() != null) {
+                for (String url : video.topicDetails().topicCategories()) {
+                    // https://en.wikipedia.org/wiki/Pop_music -> Pop music
+                    topics.add(url.substring(url.lastIndexOf('/') + 1).replace('_', ' '));
+                }
+            }
+            track.setTopics(topics);
             
-        } catch (WebClientResponseException e) {
-            log.error("Error fetching YouTube playlist tracks: {}", e.getMessage());
-            throw new RuntimeException("Failed to fetch YouTube playlist tracks: " + e.getMessage());
+            String channel = track.getChannelTitle();
+            if (channel != null && channel.endsWith(TOPIC_CHANNEL_SUFFIX)) {
+                track.setArtist(channel.substring(0, channel.length() - TOPIC_CHANNEL_SUFFIX.length()));
+            }
+        }
+    }
+    
+    /**
+     * Converts an ISO-8601 duration such as {@code PT4M13S} to milliseconds; null when absent or unparseable
+     */
+    static Long parseDurationMs(String isoDuration) {
+        if (isoDuration == null || isoDuration.isEmpty()) {
+            return null;
+        }
+        try {
+            long millis = Duration.parse(isoDuration).toMillis();
+            return millis > 0 ? millis : null; // live streams report P0D
+        } catch (DateTimeParseException e) {
+            return null;
         }
     }
     
+    /**
+     * One page of playlist videos and the token of the page after it
+     */
+    private record TracksPage(List<Track> tracks, String nextPageToken) {
+        static final TracksPage EMPTY = new TracksPage(List.of(), null);
+    }
+    
     /**
      * Extracts clean song title from YouTube video title
      * Removes common YouTube video suffixes like (Official Video), [HD], etc.
@@ -140,21 +289,6 @@ public class YouTubeService {
         if (title == null) return "";
         
         // Remove common YouTube video decorations
-        String cleaned = title
-                .replaceAll("\\s*\\(Official\\s+Video\\)", "")
-                .replaceAll("\\s*\\(Official\\s+Music\\s+Video\\)", "")
-                .replaceAll("\\s*\\(Official\\s+Audio\\)", "")
-                .replaceAll("\\s*\\[Official\\s+Video\\]", "")
-                .replaceAll("\\s*\\[Official\\s+Music\\s+Video\\]", "")
-                .replaceAll("\\s*\\[Official\\s+Audio\\]", "")
-                .replaceAll("\\s*\\(HD\\)", "")
-                .replaceAll("\\s*\\[HD\\]", "")
-                .replaceAll("\\s*\\(4K\\)", "")
-                .replaceAll("\\s*\\[4K\\]", "")
-                .replaceAll("\\s*\\(Lyrics\\)", "")
-                .replaceAll("\\s*\\[Lyrics\\]", "")
-                .trim();
-        
-        return cleaned;
+        return TitleNormalizer.VIDEO_TITLE.normalize(title);
     }
 }
@@ -0,0 +1,113 @@
+package com.playlist.converter.service;
+
+import com.playlist.converter.model.ConversionTrack;
+import com.playlist.converter.model.Track;
+import com.playlist.converter.model.TrackMatch;
+import com.playlist.converter.repository.ConversionTrackRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ConversionCheckpointService
+ */
+@ExtendWith(MockitoExtension.class)
+class ConversionCheckpointServiceTest {
+
+    @Mock
+    private ConversionTrackRepository conversionTrackRepository;
+
+    private ConversionCheckpointService checkpointService;
+
+    @BeforeEach
+    void setUp() {
+        // Large batches, so nothing is written before an explicit flush
+        checkpointService = new ConversionCheckpointService(conversionTrackRepository, 100);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFlushWritesBufferedCheckpointsOnce() {
+        checkpointService.record("c1", match(0, "video0", true), "spotify:track:id0");
+        checkpointService.record("c1", match(1, "video1", false), null);
+
+        checkpointService.flush("c1");
+        checkpointService.flush("c1");
+
+        ArgumentCaptor<List<ConversionTrack>> saved = ArgumentCaptor.forClass(List.class);
+        verify(conversionTrackRepository, times(1)).saveAll(saved.capture());
+        List<ConversionTrack> tracks = saved.getValue();
+        assertEquals(2, tracks.size());
+        assertEquals(ConversionTrack.TrackStatus.MATCHED, tracks.get(0).getStatus());
+        assertEquals("spotify:track:id0", tracks.get(0).getSpotifyUri());
+        assertEquals("Query 0", tracks.get(0).getSearchQuery());
+        assertEquals(ConversionTrack.TrackStatus.NOT_FOUND, tracks.get(1).getStatus());
+        assertNull(tracks.get(1).toSpotifyTrack());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCheckpointRecordedAfterFlushIsWrittenByNextFlush() {
+        checkpointService.record("c1", match(0, "video0", true), "spotify:track:id0");
+        checkpointService.flush("c1");
+        // A search still running when the playlist batch was flushed
+        checkpointService.record("c1", match(1, "video1", true), "spotify:track:id1");
+        checkpointService.finish("c1");
+
+        ArgumentCaptor<List<ConversionTrack>> saved = ArgumentCaptor.forClass(List.class);
+        verify(conversionTrackRepository, times(2)).saveAll(saved.capture());
+        assertEquals("video1", saved.getAllValues().get(1).get(0).getVideoId());
+    }
+
+    @Test
+    void testDiscardDropsBufferedAndWrittenCheckpoints() {
+        checkpointService.record("c1", match(0, "video0", true), "spotify:track:id0");
+
+        checkpointService.discard("c1");
+        checkpointService.flush("c1");
+
+        verify(conversionTrackRepository).deleteByConversionId("c1");
+        verify(conversionTrackRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void testLoadKeysCheckpointsByVideo() {
+        ConversionTrack checkpoint = ConversionTrack.of("c1", match(4, "video4", true), "spotify:track:id4");
+        when(conversionTrackRepository.findByConversionId("c1")).thenReturn(List.of(checkpoint));
+
+        ConversionCheckpointService.Checkpoints checkpoints = checkpointService.load("c1", 0);
+
+        assertEquals("id4", checkpoints.get("video4").toSpotifyTrack().getId());
+    }
+
+    @Test
+    void testTracksWithoutCheckpointInFrontOfAddedTracksAreSkipped() {
+        // Position 1 failed its search; positions 0 and 2 were added, position 4 was not
+        List<ConversionTrack> stored = List.of(
+                ConversionTrack.of("c1", match(0, "video0", true), "spotify:track:id0"),
+                ConversionTrack.of("c1", match(2, "video2", true), "spotify:track:id2"),
+                ConversionTrack.of("c1", match(4, "video4", true), "spotify:track:id4"));
+        when(conversionTrackRepository.findByConversionId("c1")).thenReturn(stored);
+
+        ConversionCheckpointService.Checkpoints checkpoints = checkpointService.load("c1", 2);
+
+        assertTrue(checkpoints.isSkippedBeforeAdded(1));
+        assertFalse(checkpoints.isSkippedBeforeAdded(2));
+        assertFalse(checkpoints.isSkippedBeforeAdded(3));
+        assertFalse(ConversionCheckpointService.Checkpoints.of(stored, 0).isSkippedBeforeAdded(1));
+    }
+
+    private static TrackMatch match(int position, String videoId, boolean matched) {
+        Track spotifyTrack = matched ? Track.fromSpotify("id" + position, "Song", "Artist", null, null, null) : null;
+        return new TrackMatch(position, Track.fromYouTube(videoId, "Song (Official Video)"), "Query " + position, spotifyTrack);
+    }
+}
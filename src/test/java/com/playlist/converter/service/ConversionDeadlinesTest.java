@@ -0,0 +1,66 @@
+package com.playlist.converter.service;
+
+import com.playlist.converter.exception.ConversionTimeoutException;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ConversionDeadlines and ConversionDeadline
+ */
+class ConversionDeadlinesTest {
+
+    @Test
+    void testOverdueConversionIsCancelledOnce() {
+        ConversionDeadlines deadlines = new ConversionDeadlines(0);
+        AtomicInteger cancels = new AtomicInteger();
+        deadlines.start("c1", cancels::incrementAndGet);
+
+        assertEquals(1, deadlines.cancelOverdue(Duration.ZERO));
+        assertEquals(0, deadlines.cancelOverdue(Duration.ZERO));
+        assertEquals(1, cancels.get());
+        assertFalse(deadlines.isRunning("c1"));
+    }
+
+    @Test
+    void testConversionWithinGraceIsNotCancelled() {
+        ConversionDeadlines deadlines = new ConversionDeadlines(0);
+        AtomicInteger cancels = new AtomicInteger();
+        deadlines.start("c1", cancels::incrementAndGet);
+
+        assertEquals(0, deadlines.cancelOverdue(Duration.ofMinutes(1)));
+        assertEquals(0, cancels.get());
+        assertTrue(deadlines.isRunning("c1"));
+    }
+
+    @Test
+    void testFinishedConversionIsNeverCancelled() {
+        ConversionDeadlines deadlines = new ConversionDeadlines(0);
+        AtomicInteger cancels = new AtomicInteger();
+        deadlines.start("c1", cancels::incrementAndGet);
+        deadlines.finish("c1");
+
+        assertEquals(0, deadlines.cancelOverdue(Duration.ZERO));
+        assertEquals(0, cancels.get());
+    }
+
+    @Test
+    void testBoundFailsWithTimeoutOnceDeadlinePasses() {
+        ConversionDeadline deadline = ConversionDeadline.after(Duration.ofMillis(50));
+
+        assertThrows(ConversionTimeoutException.class, () -> deadline.bound(Mono.never()).block(Duration.ofSeconds(5)));
+        assertTrue(deadline.isExceeded());
+    }
+
+    @Test
+    void testNoDeadlineLeavesMonoUnchanged() {
+        ConversionDeadline deadline = ConversionDeadline.none();
+
+        assertEquals("done", deadline.bound(Mono.just("done")).block());
+        assertFalse(deadline.isExceeded());
+    }
+}
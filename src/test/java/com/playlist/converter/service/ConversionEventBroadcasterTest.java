@@ -0,0 +1,46 @@
+package com.playlist.converter.service;
+
+import com.playlist.converter.dto.ConversionProgressEvent;
+import com.playlist.converter.model.ConversionResult.ConversionStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ConversionEventBroadcaster
+ */
+class ConversionEventBroadcasterTest {
+
+    private final ConversionEventBroadcaster broadcaster = new ConversionEventBroadcaster(new SimpleMeterRegistry());
+
+    @Test
+    void testLateSubscriberGetsLatestEventAndStreamEndsAtTerminalEvent() throws Exception {
+        broadcaster.open("c1");
+        broadcaster.publish(event(ConversionStatus.IN_PROGRESS, 1));
+        broadcaster.publish(event(ConversionStatus.IN_PROGRESS, 2));
+
+        // Subscribes now: the latest event is replayed at subscription, not when the stream is looked up
+        CompletableFuture<List<ConversionProgressEvent>> subscriber = broadcaster.stream("c1").collectList().toFuture();
+        broadcaster.publish(event(ConversionStatus.COMPLETED, 3));
+
+        List<ConversionProgressEvent> received = subscriber.get(1, TimeUnit.SECONDS);
+        assertEquals(List.of(2, 3), received.stream().map(ConversionProgressEvent::tracksProcessed).toList());
+        assertNull(broadcaster.stream("c1"), "closed after the terminal event");
+    }
+
+    @Test
+    void testEventsForUnknownConversionsAreDropped() {
+        broadcaster.publish(event(ConversionStatus.IN_PROGRESS, 1));
+
+        assertNull(broadcaster.stream("c1"));
+    }
+
+    private ConversionProgressEvent event(ConversionStatus status, int tracksProcessed) {
+        return new ConversionProgressEvent("c1", status, 3, tracksProcessed, null, null, null);
+    }
+}
@@ -0,0 +1,56 @@
+package com.playlist.converter.service;
+
+import com.playlist.converter.exception.ConversionQueueFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ConversionJobDispatcher
+ */
+class ConversionJobDispatcherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConversionJobDispatcher dispatcher = new ConversionJobDispatcher(
+            meterRegistry, new CustomizableThreadFactory("test-worker-"), 1, 1, 15);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        dispatcher.destroy();
+    }
+
+    @Test
+    void testFullQueueRejectsWithoutRunningOnCaller() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        dispatcher.submit("running", () -> {
+            started.countDown();
+            awaitRelease();
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        dispatcher.submit("queued", this::awaitRelease);
+        assertEquals(1, dispatcher.getQueueDepth());
+
+        Thread caller = Thread.currentThread();
+        ConversionQueueFullException e = assertThrows(ConversionQueueFullException.class,
+                () -> dispatcher.submit("rejected", () -> assertNotSame(caller, Thread.currentThread())));
+        assertEquals(15, e.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get("conversion.jobs.rejected").counter().count());
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
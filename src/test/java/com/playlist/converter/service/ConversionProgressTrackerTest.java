@@ -0,0 +1,70 @@
+package com.playlist.converter.service;
+
+import com.playlist.converter.repository.ConversionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ConversionProgressTracker
+ */
+@ExtendWith(MockitoExtension.class)
+class ConversionProgressTrackerTest {
+
+    @Mock
+    private ConversionRepository conversionRepository;
+
+    private ConversionProgressTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new ConversionProgressTracker(conversionRepository, 10);
+    }
+
+    @Test
+    void testPeriodicFlushWritesOnlyChangedCounts() {
+        tracker.start("c1");
+        tracker.start("c2");
+        for (int i = 0; i < 3; i++) {
+            tracker.trackProcessed("c1");
+        }
+
+        tracker.flushAll();
+        tracker.flushAll();
+
+        verify(conversionRepository, times(1)).updateTracksProcessed("c1", 3);
+        verify(conversionRepository, never()).updateTracksProcessed(eq("c2"), anyInt());
+    }
+
+    @Test
+    void testEveryNthTrackTriggersAFlush() {
+        tracker.start("c1");
+        for (int i = 0; i < 10; i++) {
+            tracker.trackProcessed("c1");
+        }
+
+        verify(conversionRepository, timeout(1000)).updateTracksProcessed("c1", 10);
+    }
+
+    @Test
+    void testFinishReturnsCountAndStopsTracking() {
+        tracker.start("c1");
+        tracker.trackProcessed("c1");
+        tracker.trackProcessed("c1");
+
+        assertEquals(2, tracker.finish("c1"));
+        tracker.trackProcessed("c1");
+        tracker.flushAll();
+
+        assertEquals(0, tracker.getProcessed("c1"));
+        verify(conversionRepository, never()).updateTracksProcessed(anyString(), anyInt());
+    }
+}
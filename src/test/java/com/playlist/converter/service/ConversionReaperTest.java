@@ -0,0 +1,104 @@
+package com.playlist.converter.service;
+
+import com.playlist.converter.model.ConversionResult;
+import com.playlist.converter.repository.ConversionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ConversionReaper
+ */
+@ExtendWith(MockitoExtension.class)
+class ConversionReaperTest {
+
+    @Mock
+    private ConversionRepository conversionRepository;
+
+    @Mock
+    private ConversionService conversionService;
+
+    private ConversionDeadlines deadlines;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        deadlines = new ConversionDeadlines(10);
+        meterRegistry = new SimpleMeterRegistry();
+        when(conversionRepository.findByStatusInAndCreatedAtBeforeAfter(any(), any(), any(), anyLong(), any()))
+                .thenReturn(List.of());
+    }
+
+    @Test
+    void testConversionWithoutWorkerIsFailed() {
+        ConversionResult stuck = inProgress(1L, "c1", 20);
+        when(conversionRepository.findByStatusInAndCreatedAtBeforeOrderByCreatedAtAscIdAsc(any(), any(), any()))
+                .thenReturn(List.of(stuck));
+
+        reaper(false).reap();
+
+        verify(conversionService).failStuckConversion(stuck);
+        assertEquals(1.0, meterRegistry.counter("conversion.reaper.failed").count());
+    }
+
+    @Test
+    void testRunningConversionIsLeftToItsDeadline() {
+        ConversionResult running = inProgress(1L, "c1", 20);
+        deadlines.start("c1", () -> {});
+        when(conversionRepository.findByStatusInAndCreatedAtBeforeOrderByCreatedAtAscIdAsc(any(), any(), any()))
+                .thenReturn(List.of(running));
+
+        reaper(false).reap();
+
+        verify(conversionService, never()).failStuckConversion(any());
+    }
+
+    @Test
+    void testRecentlyResumedConversionIsNotFailed() {
+        ConversionResult resumed = inProgress(1L, "c1", 60);
+        resumed.setStartedAt(LocalDateTime.now().minusMinutes(1));
+        when(conversionRepository.findByStatusInAndCreatedAtBeforeOrderByCreatedAtAscIdAsc(any(), any(), any()))
+                .thenReturn(List.of(resumed));
+
+        reaper(false).reap();
+
+        verify(conversionService, never()).failStuckConversion(any());
+    }
+
+    @Test
+    void testConversionsFromBeforeStartupAreLeftToRecovery() {
+        ConversionResult orphan = inProgress(1L, "c1", 20);
+        when(conversionRepository.findByStatusInAndCreatedAtBeforeOrderByCreatedAtAscIdAsc(any(), any(), any()))
+                .thenReturn(List.of(orphan));
+
+        reaper(true).reap();
+
+        verify(conversionService, never()).failStuckConversion(any());
+    }
+
+    private ConversionReaper reaper(boolean recoveryEnabled) {
+        return new ConversionReaper(conversionRepository, conversionService, deadlines, meterRegistry,
+                60, recoveryEnabled, 100);
+    }
+
+    private static ConversionResult inProgress(long id, String conversionId, long minutesAgo) {
+        ConversionResult conversion = new ConversionResult();
+        conversion.setId(id);
+        conversion.setConversionId(conversionId);
+        conversion.setStatus(ConversionResult.ConversionStatus.IN_PROGRESS);
+        conversion.setCreatedAt(LocalDateTime.now().minusMinutes(minutesAgo));
+        conversion.setStartedAt(conversion.getCreatedAt());
+        return conversion;
+    }
+}
@@ -0,0 +1,99 @@
+package com.playlist.converter.service;
+
+import com.playlist.converter.exception.ConversionQueueFullException;
+import com.playlist.converter.model.ConversionResult;
+import com.playlist.converter.repository.ConversionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ConversionRecoveryService
+ */
+@ExtendWith(MockitoExtension.class)
+class ConversionRecoveryServiceTest {
+
+    @Mock
+    private ConversionRepository conversionRepository;
+
+    @Mock
+    private ConversionService conversionService;
+
+    @Mock
+    private OAuth2TokenService oAuth2TokenService;
+
+    private ConversionRecoveryService recoveryService;
+
+    private final ConversionResult first = orphan(1L, "c1", "alice");
+    private final ConversionResult second = orphan(2L, "c2", "bob");
+
+    @BeforeEach
+    void setUp() {
+        recoveryService = new ConversionRecoveryService(conversionRepository, conversionService, oAuth2TokenService, true, 100);
+        when(conversionRepository.findByStatusInAndCreatedAtBeforeOrderByCreatedAtAscIdAsc(any(), any(), any()))
+                .thenReturn(List.of(first, second));
+        when(conversionRepository.findByStatusInAndCreatedAtBeforeAfter(any(), any(), any(), anyLong(), any()))
+                .thenReturn(List.of());
+    }
+
+    @Test
+    void testOrphansAreReEnqueuedOnce() {
+        when(oAuth2TokenService.hasValidToken(anyString())).thenReturn(true);
+
+        recoveryService.onApplicationReady();
+        recoveryService.retryOutstanding();
+
+        verify(conversionService).recoverConversion(first);
+        verify(conversionService).recoverConversion(second);
+        verifyNoMoreInteractions(conversionService);
+    }
+
+    @Test
+    void testOrphansOfLoggedOutUsersWaitForNextPass() {
+        when(oAuth2TokenService.hasValidToken("alice")).thenReturn(true);
+        when(oAuth2TokenService.hasValidToken("bob")).thenReturn(false, true);
+
+        recoveryService.onApplicationReady();
+        verify(conversionService, never()).recoverConversion(second);
+
+        recoveryService.retryOutstanding();
+        verify(conversionService, times(1)).recoverConversion(first);
+        verify(conversionService, times(1)).recoverConversion(second);
+    }
+
+    @Test
+    void testFullQueueStopsThePassUntilTheNextOne() {
+        when(oAuth2TokenService.hasValidToken(anyString())).thenReturn(true);
+        doNothing().when(conversionService).recoverConversion(first);
+        doThrow(new ConversionQueueFullException(30)).doNothing().when(conversionService).recoverConversion(second);
+
+        recoveryService.onApplicationReady();
+        recoveryService.retryOutstanding();
+
+        verify(conversionService, times(1)).recoverConversion(first);
+        verify(conversionService, times(2)).recoverConversion(second);
+        verify(conversionRepository, times(1))
+                .findByStatusInAndCreatedAtBeforeAfter(any(), any(), eq(second.getCreatedAt()), eq(2L), any());
+    }
+
+    private static ConversionResult orphan(long id, String conversionId, String spotifyUserId) {
+        ConversionResult conversion = new ConversionResult();
+        conversion.setId(id);
+        conversion.setConversionId(conversionId);
+        conversion.setSpotifyUserId(spotifyUserId);
+        conversion.setStatus(ConversionResult.ConversionStatus.IN_PROGRESS);
+        conversion.setCreatedAt(LocalDateTime.now().minusMinutes(5));
+        return conversion;
+    }
+}
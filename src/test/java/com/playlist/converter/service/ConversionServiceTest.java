@@ -0,0 +1,463 @@
+package com.playlist.converter.service;
+
+import com.playlist.converter.dto.ConversionPage;
+import com.playlist.converter.dto.ConversionSummary;
+import com.playlist.converter.dto.TrackNamePage;
+import com.playlist.converter.model.ConversionResult;
+import com.playlist.converter.model.ConversionTrack;
+import com.playlist.converter.model.Playlist;
+import com.playlist.converter.model.Track;
+import com.playlist.converter.model.TrackMatch;
+import com.playlist.converter.repository.ConversionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ConversionService
+ */
+@ExtendWith(MockitoExtension.class)
+class ConversionServiceTest {
+
+    private static final long SEARCH_LATENCY_MS = 20;
+    private static final int TRACK_COUNT = 40;
+
+    @Mock
+    private WebClient webClient;
+
+    @Mock
+    private SpotifyService spotifyService;
+
+    @Mock
+    private ConversionRepository conversionRepository;
+
+    @Mock
+    private OAuth2TokenService oAuth2TokenService;
+
+    @Mock
+    private TrackMatchCache trackMatchCache;
+
+    @Mock
+    private ConversionJobDispatcher jobDispatcher;
+
+    @Mock
+    private ConversionProgressTracker progressTracker;
+
+    @Mock
+    private ConversionEventBroadcaster eventBroadcaster;
+
+    @Mock
+    private ConversionStatusRegistry statusRegistry;
+
+    @Mock
+    private ConversionCheckpointService checkpointService;
+
+    @Mock
+    private PlaylistSyncService playlistSyncService;
+
+    private YouTubeService youTubeService;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        youTubeService = new YouTubeService(webClient, "test-api-key", true);
+
+        lenient().when(spotifyService.prepareSearchQuery(anyString())).thenAnswer(inv -> inv.getArgument(0));
+        lenient().when(spotifyService.searchTrack(anyString(), any(), eq("token"))).thenAnswer(inv -> {
+            String query = inv.getArgument(0);
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(SEARCH_LATENCY_MS);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            // Every third track has no Spotify equivalent
+            int index = Integer.parseInt(query.substring("Song ".length()));
+            return index % 3 == 0 ? null : Track.fromSpotify("id" + index, query, "Artist", "Album", 1000L, "url");
+        });
+    }
+
+    @Test
+    void testMatchTracksKeepsPlaylistOrder() {
+        List<TrackMatch> matches = service(8).matchTracks(youtubeTracks(), "token");
+
+        assertEquals(TRACK_COUNT, matches.size());
+        for (int i = 0; i < TRACK_COUNT; i++) {
+            TrackMatch match = matches.get(i);
+            assertEquals(i, match.getPosition());
+            assertEquals("video" + i, match.getYoutubeTrack().getId());
+            assertEquals(i % 3 != 0, match.isMatched());
+        }
+        assertTrue(maxInFlight.get() <= 8, "never more than 8 searches in flight");
+    }
+
+    @Test
+    void testSearchConcurrencyBoundsSearchesInFlight() {
+        service(1).matchTracks(youtubeTracks(), "token");
+        assertEquals(1, maxInFlight.get());
+
+        service(8).matchTracks(youtubeTracks(), "token");
+        assertTrue(maxInFlight.get() > 1, "searches overlap when more than one may be in flight");
+        assertTrue(maxInFlight.get() <= 8);
+    }
+
+    @Test
+    void testReactiveMatchTracksKeepsPlaylistOrder() {
+        lenient().when(spotifyService.searchTrackReactive(anyString(), any(), eq("token"))).thenAnswer(inv -> {
+            String query = inv.getArgument(0);
+            int index = Integer.parseInt(query.substring("Song ".length()));
+            // Later tracks answer first, so ordering comes from flatMapSequential rather than timing
+            Mono<Track> found = index % 3 == 0
+                    ? Mono.empty()
+                    : Mono.just(Track.fromSpotify("id" + index, query, "Artist", "Album", 1000L, "url"));
+            return found.delayElement(Duration.ofMillis(TRACK_COUNT - index))
+                    .switchIfEmpty(Mono.delay(Duration.ofMillis(TRACK_COUNT - index)).then(Mono.empty()));
+        });
+
+        List<TrackMatch> matches = service(8)
+                .matchTracksReactive(Flux.fromIterable(youtubeTracks()), "token")
+                .collectList()
+                .block();
+
+        assertEquals(TRACK_COUNT, matches.size());
+        for (int i = 0; i < TRACK_COUNT; i++) {
+            assertEquals(i, matches.get(i).getPosition());
+            assertEquals(i % 3 != 0, matches.get(i).isMatched());
+        }
+    }
+
+    @Test
+    void testFailedSearchIsNotCachedAsUnmatched() {
+        Track video = Track.fromYouTube("video1", "Song 1");
+        when(spotifyService.searchTrack(eq("Song 1"), any(), eq("token")))
+                .thenThrow(WebClientResponseException.create(500, "Internal Server Error", null, null, null));
+
+        List<TrackMatch> matches = service(8).matchTracks(List.of(video), "token");
+
+        assertEquals(1, matches.size());
+        assertFalse(matches.get(0).isMatched());
+        verify(trackMatchCache, never()).put(anyString(), any());
+    }
+
+    @Test
+    void testCheckpointedTracksAreNotSearchedAgain() {
+        List<Track> tracks = youtubeTracks();
+        ConversionTrack found = ConversionTrack.of("c1",
+                new TrackMatch(1, tracks.get(1), "Song 1", Track.fromSpotify("id1", "Song 1", "Artist", null, null, null)),
+                "spotify:track:id1");
+        ConversionTrack notFound = ConversionTrack.of("c1", new TrackMatch(3, tracks.get(3), "Song 3", null), null);
+
+        List<TrackMatch> matches = service(8).matchTracks(Flux.fromIterable(tracks), "token",
+                ConversionCheckpointService.Checkpoints.of(List.of(found, notFound), 0), match -> {});
+
+        assertEquals(TRACK_COUNT, matches.size());
+        assertEquals("id1", matches.get(1).getSpotifyTrack().getId());
+        assertFalse(matches.get(3).isMatched());
+        verify(spotifyService, never()).searchTrack(eq("Song 1"), any(), anyString());
+        verify(spotifyService, never()).searchTrack(eq("Song 3"), any(), anyString());
+    }
+
+    @Test
+    void testResumeSearchesTrackWhoseSearchFailedAgain() {
+        List<Track> tracks = youtubeTracks().subList(0, 8);
+        when(spotifyService.searchTrack(eq("Song 4"), any(), eq("token")))
+                .thenThrow(WebClientResponseException.create(500, "Internal Server Error", null, null, null))
+                .thenReturn(Track.fromSpotify("id4", "Song 4", "Artist", "Album", 1000L, "url"));
+        List<ConversionTrack> stored = firstAttempt(tracks);
+        // The first attempt added Song 1 and Song 2, ahead of the failed search
+        ConversionResult conversion = new ConversionResult();
+        conversion.setConversionId("c1");
+        conversion.setTracksAdded(2);
+        List<List<String>> batches = stubPlaylistAppends();
+
+        List<TrackMatch> resumed = service(8).matchTracks(Flux.fromIterable(tracks), "token",
+                ConversionCheckpointService.Checkpoints.of(stored, 2), match -> {});
+        service(8).appendWhileMatching(conversion, spotifyPlaylist(), Flux.fromIterable(resumed), "token").block();
+
+        assertEquals("id4", resumed.get(4).getSpotifyTrack().getId());
+        assertEquals(List.of(List.of("spotify:track:id4", "spotify:track:id5", "spotify:track:id7")), batches);
+        verify(spotifyService, times(2)).searchTrack(eq("Song 4"), any(), eq("token"));
+    }
+
+    @Test
+    void testResumeSkipsFailedSearchInFrontOfAddedTracks() {
+        List<Track> tracks = youtubeTracks().subList(0, 8);
+        when(spotifyService.searchTrack(eq("Song 4"), any(), eq("token")))
+                .thenThrow(WebClientResponseException.create(503, "Service Unavailable", null, null, null));
+        List<ConversionTrack> stored = firstAttempt(tracks);
+        // Song 5 was added after the failed search, so Song 4 could no longer go in order
+        ConversionResult conversion = new ConversionResult();
+        conversion.setConversionId("c1");
+        conversion.setTracksAdded(3);
+        List<List<String>> batches = stubPlaylistAppends();
+
+        List<TrackMatch> resumed = service(8).matchTracks(Flux.fromIterable(tracks), "token",
+                ConversionCheckpointService.Checkpoints.of(stored, 3), match -> {});
+        service(8).appendWhileMatching(conversion, spotifyPlaylist(), Flux.fromIterable(resumed), "token").block();
+
+        assertTrue(resumed.get(4).isSearchFailed());
+        assertEquals(List.of(List.of("spotify:track:id7")), batches);
+        verify(spotifyService, times(1)).searchTrack(eq("Song 4"), any(), eq("token"));
+    }
+
+    @Test
+    void testMatchedTracksAreAddedWhileMatchingContinues() throws Exception {
+        ConversionResult conversion = new ConversionResult();
+        conversion.setConversionId("c1");
+        List<List<String>> batches = stubPlaylistAppends();
+        Sinks.Many<TrackMatch> matches = Sinks.many().unicast().onBackpressureBuffer();
+
+        CompletableFuture<ConversionService.MatchSummary> append = service(8)
+                .appendWhileMatching(conversion, spotifyPlaylist(), matches.asFlux(), "token")
+                .toFuture();
+        for (int i = 0; i < 150; i++) {
+            matches.tryEmitNext(matched(i));
+        }
+
+        // The first full batch goes out while the search stage is still emitting
+        verify(conversionRepository, timeout(5000)).updateTracksAdded("c1", 100);
+        assertFalse(append.isDone());
+        assertEquals(1, batches.size());
+        assertEquals(100, batches.get(0).size());
+
+        matches.tryEmitNext(new TrackMatch(150, Track.fromYouTube("video150", "Song 150"), "Song 150", null));
+        matches.tryEmitComplete();
+
+        assertEquals(151, append.get(5, TimeUnit.SECONDS).totalTracks());
+        assertEquals(2, batches.size());
+        assertEquals(50, batches.get(1).size());
+        verify(conversionRepository).updateTracksAdded("c1", 150);
+    }
+
+    @Test
+    void testResumedAppendSkipsTracksAlreadyAdded() {
+        ConversionResult conversion = new ConversionResult();
+        conversion.setConversionId("c1");
+        conversion.setTracksAdded(100);
+        List<List<String>> batches = stubPlaylistAppends();
+
+        service(8).appendWhileMatching(conversion, spotifyPlaylist(),
+                Flux.range(0, 130).map(ConversionServiceTest::matched), "token").block();
+
+        assertEquals(1, batches.size());
+        assertEquals(30, batches.get(0).size());
+        assertEquals("spotify:track:id100", batches.get(0).get(0));
+        verify(conversionRepository).updateTracksAdded("c1", 130);
+    }
+
+    @Test
+    void testOnlyFailedConversionsCanBeResumed() {
+        ConversionResult conversion = new ConversionResult();
+        conversion.setConversionId("c1");
+        conversion.setStatus(ConversionResult.ConversionStatus.COMPLETED);
+
+        assertThrows(IllegalStateException.class, () -> service(8).resumeConversion(conversion));
+    }
+
+    @Test
+    void testConversionResumedConcurrentlyIsQueuedOnce() {
+        ConversionResult conversion = convertedPlaylist();
+        conversion.setStatus(ConversionResult.ConversionStatus.FAILED);
+        // Another request moved it out of FAILED between the status check and the claim
+        when(conversionRepository.updateStatusIf(eq("c1"), eq(ConversionResult.ConversionStatus.FAILED),
+                eq(ConversionResult.ConversionStatus.PENDING), any())).thenReturn(0);
+
+        assertThrows(IllegalStateException.class, () -> service(8).resumeConversion(conversion));
+        verify(jobDispatcher, never()).submit(anyString(), any());
+    }
+
+    @Test
+    void testRecoveryDoesNotQueueAConversionResumedByThisInstance() {
+        ConversionResult conversion = convertedPlaylist();
+        conversion.setStatus(ConversionResult.ConversionStatus.PENDING);
+        when(conversionRepository.claimInterrupted(eq("c1"), any(), eq(ConversionResult.ConversionStatus.PENDING),
+                any(), any())).thenReturn(0);
+
+        service(8).recoverConversion(conversion);
+
+        verify(conversionRepository, never()).save(any());
+        verify(jobDispatcher, never()).submit(anyString(), any());
+    }
+
+    @Test
+    void testOnlyCompletedConversionsCanBeSynced() {
+        ConversionResult conversion = convertedPlaylist();
+        conversion.setStatus(ConversionResult.ConversionStatus.FAILED);
+
+        assertThrows(IllegalStateException.class, () -> service(8).syncConversion(conversion));
+        verify(conversionRepository, never()).save(any());
+    }
+
+    @Test
+    void testConversionsWithoutBaselineCannotBeSynced() {
+        ConversionResult conversion = convertedPlaylist();
+        when(playlistSyncService.hasBaseline(conversion)).thenReturn(false);
+
+        assertThrows(IllegalStateException.class, () -> service(8).syncConversion(conversion));
+        verify(jobDispatcher, never()).submit(anyString(), any());
+    }
+
+    @Test
+    void testSyncUpdatesTheConvertedPlaylist() {
+        ConversionResult conversion = convertedPlaylist();
+        when(playlistSyncService.hasBaseline(conversion)).thenReturn(true);
+        ArgumentCaptor<ConversionResult> sync = ArgumentCaptor.forClass(ConversionResult.class);
+
+        String syncId = service(8).syncConversion(conversion);
+
+        verify(conversionRepository).save(sync.capture());
+        assertEquals(syncId, sync.getValue().getConversionId());
+        assertEquals("c1", sync.getValue().getSyncOf());
+        assertEquals("p1", sync.getValue().getSpotifyPlaylistId());
+        assertEquals(ConversionResult.ConversionStatus.PENDING, sync.getValue().getStatus());
+        verify(jobDispatcher).submit(eq(syncId), any());
+    }
+
+    @Test
+    void testConversionHistoryContinuesAfterCursorRow() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 12, 0);
+        when(conversionRepository.findSummariesBySpotifyUserId("user", PageRequest.of(0, 3)))
+                .thenReturn(List.of(summary(30L, createdAt), summary(29L, createdAt), summary(28L, createdAt.minusHours(1))));
+        when(conversionRepository.findSummariesBySpotifyUserIdBefore("user", createdAt, 29L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(summary(28L, createdAt.minusHours(1))));
+
+        ConversionPage first = service(8).getUserConversionPage("user", null, 2);
+        ConversionPage last = service(8).getUserConversionPage("user", first.nextCursor(), 2);
+
+        assertEquals(2, first.conversions().size());
+        assertNotNull(first.nextCursor());
+        assertEquals(1, last.conversions().size());
+        assertNull(last.nextCursor());
+    }
+
+    @Test
+    void testMalformedConversionCursorIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> service(8).getUserConversionPage("user", "not-a-cursor", 20));
+    }
+
+    @Test
+    void testTrackNamesArePagedByPosition() {
+        when(conversionRepository.findMatchedTrackNames("c1", 10, PageRequest.of(0, 3)))
+                .thenReturn(List.of("Song 10", "Song 11", "Song 12"));
+        when(conversionRepository.findMatchedTrackNames("c1", 12, PageRequest.of(0, 3)))
+                .thenReturn(List.of("Song 12"));
+
+        TrackNamePage first = service(8).getTrackNames("c1", true, 10, 2);
+        TrackNamePage last = service(8).getTrackNames("c1", true, first.nextCursor(), 2);
+
+        assertEquals(List.of("Song 10", "Song 11"), first.trackNames());
+        assertEquals(12, first.nextCursor());
+        assertEquals(List.of("Song 12"), last.trackNames());
+        assertNull(last.nextCursor());
+    }
+
+    @Test
+    void testTrackNamesOfUnknownConversionAreNotFound() {
+        when(conversionRepository.findSkippedTrackNames("missing", 0, PageRequest.of(0, 51))).thenReturn(List.of());
+        when(conversionRepository.existsByConversionId("missing")).thenReturn(false);
+
+        assertThrows(RuntimeException.class, () -> service(8).getTrackNames("missing", false, 0, 50));
+    }
+
+    private ConversionService service(int searchConcurrency) {
+        return new ConversionService(youTubeService, spotifyService, conversionRepository,
+                oAuth2TokenService, trackMatchCache, jobDispatcher, progressTracker, eventBroadcaster,
+                statusRegistry, checkpointService, new ConversionDeadlines(10), playlistSyncService, Schedulers.boundedElastic(), searchConcurrency, 64,
+                "blocking", 10_000, "incremental");
+    }
+
+    private List<List<String>> stubPlaylistAppends() {
+        List<List<String>> batches = new CopyOnWriteArrayList<>();
+        when(spotifyService.getTrackUri(anyString())).thenAnswer(inv -> "spotify:track:" + inv.getArgument(0));
+        when(spotifyService.addTracksToPlaylistReactive(eq("p1"), any(), eq("token"), any())).thenAnswer(inv -> {
+            List<String> batch = new ArrayList<>(inv.<List<String>>getArgument(1));
+            batches.add(batch);
+            return inv.<Function<Integer, Mono<Void>>>getArgument(3).apply(batch.size())
+                    .thenReturn(SpotifyService.PlaylistAppend.ADDED);
+        });
+        return batches;
+    }
+
+    /**
+     * The checkpoints a first attempt over the tracks stores: every search that did not fail
+     */
+    private List<ConversionTrack> firstAttempt(List<Track> tracks) {
+        List<TrackMatch> matches = service(8).matchTracks(tracks, "token");
+        List<ConversionTrack> stored = new ArrayList<>();
+        for (TrackMatch match : matches) {
+            if (!match.isSearchFailed()) {
+                stored.add(ConversionTrack.of("c1", match,
+                        match.isMatched() ? "spotify:track:" + match.getSpotifyTrack().getId() : null));
+            }
+        }
+        assertTrue(matches.get(4).isSearchFailed());
+        return stored;
+    }
+
+    private static ConversionResult convertedPlaylist() {
+        ConversionResult conversion = new ConversionResult();
+        conversion.setConversionId("c1");
+        conversion.setYoutubePlaylistUrl("https://www.youtube.com/playlist?list=PL1");
+        conversion.setSpotifyUserId("user");
+        conversion.setSpotifyPlaylistId("p1");
+        conversion.setStatus(ConversionResult.ConversionStatus.COMPLETED);
+        return conversion;
+    }
+
+    private static Playlist spotifyPlaylist() {
+        Playlist playlist = new Playlist();
+        playlist.setId("p1");
+        return playlist;
+    }
+
+    private static TrackMatch matched(int index) {
+        return new TrackMatch(index, Track.fromYouTube("video" + index, "Song " + index), "Song " + index,
+                Track.fromSpotify("id" + index, "Song " + index, "Artist", "Album", 1000L, "url"));
+    }
+
+    private static ConversionSummary summary(long id, LocalDateTime createdAt) {
+        return new ConversionSummary(id, "conversion" + id, "https://www.youtube.com/playlist?list=PL" + id,
+                ConversionResult.ConversionStatus.COMPLETED, null, null, 10, 9, 1, 0.9, null, createdAt, createdAt);
+    }
+
+    private List<Track> youtubeTracks() {
+        List<Track> tracks = new ArrayList<>();
+        for (int i = 0; i < TRACK_COUNT; i++) {
+            tracks.add(Track.fromYouTube("video" + i, "Song " + i + " (Official Video)"));
+        }
+        return tracks;
+    }
+}
@@ -0,0 +1,104 @@
+package com.playlist.converter.service;
+
+import com.playlist.converter.model.ConversionResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ConversionStatusRegistry
+ */
+@ExtendWith(MockitoExtension.class)
+class ConversionStatusRegistryTest {
+
+    @Mock
+    private ConversionProgressTracker progressTracker;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConversionStatusRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new ConversionStatusRegistry(progressTracker, meterRegistry, 2, 30);
+    }
+
+    @Test
+    void testInFlightStatusIsServedWithLiveProgress() {
+        when(progressTracker.getProcessed("c1")).thenReturn(7);
+        registry.update(conversion("c1", ConversionResult.ConversionStatus.IN_PROGRESS));
+
+        ConversionResult status = registry.find("c1");
+
+        assertNotNull(status);
+        assertEquals(ConversionResult.ConversionStatus.IN_PROGRESS, status.getStatus());
+        assertEquals(20, status.getTotalTracks());
+        assertEquals(7, status.getTracksProcessed());
+        assertEquals(1.0, meterRegistry.get("conversion.status.reads").tag("source", "memory").counter().count());
+    }
+
+    @Test
+    void testInFlightStatusCarriesPlaylistBeingFilled() {
+        ConversionResult conversion = conversion("c1", ConversionResult.ConversionStatus.IN_PROGRESS);
+        registry.update(conversion);
+        conversion.setSpotifyPlaylistId("p1");
+        conversion.setSpotifyPlaylistUrl("https://open.spotify.com/playlist/p1");
+        conversion.setTracksAdded(100);
+        registry.update(conversion);
+
+        ConversionResult status = registry.find("c1");
+
+        assertEquals("p1", status.getSpotifyPlaylistId());
+        assertEquals("https://open.spotify.com/playlist/p1", status.getSpotifyPlaylistUrl());
+        assertEquals(100, status.getTracksAdded());
+    }
+
+    @Test
+    void testTerminalStatusHandsOverToDatabase() {
+        registry.update(conversion("c1", ConversionResult.ConversionStatus.IN_PROGRESS));
+        registry.update(conversion("c1", ConversionResult.ConversionStatus.COMPLETED));
+
+        assertNull(registry.find("c1"));
+        assertEquals(1.0, meterRegistry.get("conversion.status.reads").tag("source", "database").counter().count());
+    }
+
+    @Test
+    void testFullRegistryStopsTrackingNewConversions() {
+        registry.update(conversion("c1", ConversionResult.ConversionStatus.PENDING));
+        registry.update(conversion("c2", ConversionResult.ConversionStatus.PENDING));
+        registry.update(conversion("c3", ConversionResult.ConversionStatus.PENDING));
+        // Already tracked conversions keep updating
+        registry.update(conversion("c1", ConversionResult.ConversionStatus.IN_PROGRESS));
+
+        assertNull(registry.find("c3"));
+        assertEquals(ConversionResult.ConversionStatus.IN_PROGRESS, registry.find("c1").getStatus());
+        assertEquals(2.0, meterRegistry.get("conversion.status.registry.size").gauge().value());
+    }
+
+    @Test
+    void testStaleEntriesAreEvicted() {
+        registry = new ConversionStatusRegistry(progressTracker, meterRegistry, 2, 0);
+        registry.update(conversion("c1", ConversionResult.ConversionStatus.IN_PROGRESS));
+
+        registry.evictStale();
+
+        assertNull(registry.find("c1"));
+    }
+
+    private static ConversionResult conversion(String conversionId, ConversionResult.ConversionStatus status) {
+        ConversionResult conversion = new ConversionResult();
+        conversion.setConversionId(conversionId);
+        conversion.setStatus(status);
+        conversion.setTotalTracks(20);
+        conversion.setCreatedAt(LocalDateTime.now());
+        return conversion;
+    }
+}
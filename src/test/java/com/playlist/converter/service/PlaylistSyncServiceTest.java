@@ -0,0 +1,106 @@
+package com.playlist.converter.service;
+
+import com.playlist.converter.model.ConversionResult;
+import com.playlist.converter.model.ConversionTrack;
+import com.playlist.converter.model.PlaylistSyncTrack;
+import com.playlist.converter.model.Track;
+import com.playlist.converter.model.TrackMatch;
+import com.playlist.converter.repository.ConversionRepository;
+import com.playlist.converter.repository.ConversionTrackRepository;
+import com.playlist.converter.repository.PlaylistSyncTrackRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PlaylistSyncService
+ */
+@ExtendWith(MockitoExtension.class)
+class PlaylistSyncServiceTest {
+
+    @Mock
+    private PlaylistSyncTrackRepository syncTrackRepository;
+
+    @Mock
+    private ConversionTrackRepository conversionTrackRepository;
+
+    @Mock
+    private ConversionRepository conversionRepository;
+
+    private PlaylistSyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        syncService = new PlaylistSyncService(syncTrackRepository, conversionTrackRepository, conversionRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCompletedConversionBecomesBaseline() {
+        when(conversionTrackRepository.findByConversionId("c1")).thenReturn(List.of(
+                ConversionTrack.of("c1", new TrackMatch(0, Track.fromYouTube("video1", "Song 1"), "Song 1",
+                        Track.fromSpotify("id1", "Song 1", "Artist", null, null, null)), "spotify:track:id1"),
+                ConversionTrack.of("c1", new TrackMatch(1, Track.fromYouTube("video2", "Song 2"), "Song 2", null), null)));
+        ArgumentCaptor<List<PlaylistSyncTrack>> saved = ArgumentCaptor.forClass(List.class);
+
+        syncService.recordConversion(conversion());
+
+        verify(syncTrackRepository).saveAll(saved.capture());
+        assertEquals(2, saved.getValue().size());
+        PlaylistSyncTrack first = saved.getValue().get(0);
+        assertEquals("PL1", first.getYoutubePlaylistId());
+        assertEquals("p1", first.getSpotifyPlaylistId());
+        assertEquals("video1", first.getVideoId());
+        assertEquals("spotify:track:id1", first.getSpotifyUri());
+        // Unmatched videos are remembered too, so a sync does not search them again
+        assertNull(saved.getValue().get(1).getSpotifyUri());
+    }
+
+    @Test
+    void testMappingsAreKeyedByVideo() {
+        when(syncTrackRepository.findBySpotifyPlaylistIdAndYoutubePlaylistId("p1", "PL1")).thenReturn(List.of(
+                new PlaylistSyncTrack("PL1", "p1", "video1", "spotify:track:id1")));
+
+        Map<String, PlaylistSyncTrack> synced = syncService.load("p1", "PL1");
+
+        assertEquals(1, synced.size());
+        assertEquals("spotify:track:id1", synced.get("video1").getSpotifyUri());
+    }
+
+    @Test
+    void testRecordingAddedVideosResetsTheAddCheckpoint() {
+        ConversionResult sync = conversion();
+        sync.setConversionId("s1");
+        List<PlaylistSyncTrack> added = List.of(new PlaylistSyncTrack("PL1", "p1", "video3", "spotify:track:id3"));
+
+        syncService.recordAdded(sync, added);
+
+        verify(syncTrackRepository).saveAll(added);
+        verify(conversionRepository).updateTracksAdded("s1", 0);
+    }
+
+    @Test
+    void testNoRemovalWhenNoVideoLeft() {
+        syncService.recordRemoved("p1", "PL1", List.of());
+
+        verify(syncTrackRepository, never()).deleteVideos(anyString(), anyString(), anyList());
+    }
+
+    private static ConversionResult conversion() {
+        ConversionResult conversion = new ConversionResult();
+        conversion.setConversionId("c1");
+        conversion.setYoutubePlaylistUrl("https://www.youtube.com/playlist?list=PL1");
+        conversion.setSpotifyPlaylistId("p1");
+        return conversion;
+    }
+}
@@ -0,0 +1,88 @@
+package com.playlist.converter.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SpotifyRateGovernor
+ */
+class SpotifyRateGovernorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void testTooManyRequestsPausesAndRetries() {
+        SpotifyRateGovernor governor = new SpotifyRateGovernor(registry, 100, 100, 100, 100, 3, 5, 60);
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction spotify = request -> Mono.just(calls.getAndIncrement() == 0
+                ? ClientResponse.create(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "1").build()
+                : ClientResponse.create(HttpStatus.OK).build());
+
+        long start = System.nanoTime();
+        ClientResponse response = governor.filter(request("Bearer token"), spotify).block();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(HttpStatus.OK, response.statusCode());
+        assertEquals(2, calls.get());
+        assertTrue(elapsedMs >= 1000, "retry waits out Retry-After");
+        assertEquals(1.0, registry.get("spotify.rate.throttled").counter().count());
+    }
+
+    @Test
+    void testTooManyRequestsIsReturnedOnceRetriesAreExhausted() {
+        SpotifyRateGovernor governor = new SpotifyRateGovernor(registry, 100, 100, 100, 100, 2, 5, 60);
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction spotify = request -> {
+            calls.incrementAndGet();
+            return Mono.just(ClientResponse.create(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "0").build());
+        };
+
+        ClientResponse response = governor.filter(request("Bearer token"), spotify).block();
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.statusCode());
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void testPerTokenBucketDelaysOnlyThatToken() {
+        SpotifyRateGovernor governor = new SpotifyRateGovernor(registry, 1000, 1000, 10, 2, 3, 5, 60);
+
+        assertEquals(0, governor.reserve("Bearer busy"));
+        assertEquals(0, governor.reserve("Bearer busy"));
+        long wait = governor.reserve("Bearer busy");
+        assertTrue(wait > Duration.ofMillis(50).toNanos(), "third request waits for a refill");
+        assertEquals(0, governor.reserve("Bearer idle"));
+    }
+
+    @Test
+    void testRetryAfterIsCapped() {
+        SpotifyRateGovernor governor = new SpotifyRateGovernor(registry, 10, 10, 10, 10, 3, 5, 60);
+
+        HttpHeaders headers = new HttpHeaders();
+        assertEquals(Duration.ofSeconds(5), governor.retryAfter(headers));
+        headers.set(HttpHeaders.RETRY_AFTER, "3600");
+        assertEquals(Duration.ofSeconds(60), governor.retryAfter(headers));
+        headers.set(HttpHeaders.RETRY_AFTER, "soon");
+        assertEquals(Duration.ofSeconds(5), governor.retryAfter(headers));
+    }
+
+    private ClientRequest request(String authorization) {
+        return ClientRequest.create(HttpMethod.GET, URI.create("https://api.spotify.com/v1/search"))
+                .header(HttpHeaders.AUTHORIZATION, authorization)
+                .build();
+    }
+}
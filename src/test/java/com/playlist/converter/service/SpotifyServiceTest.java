@@ -0,0 +1,305 @@
+package com.playlist.converter.service;
+
+import com.playlist.converter.model.Track;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SpotifyService
+ */
+class SpotifyServiceTest {
+
+    private static final String SEARCH_RESPONSE = """
+            {"tracks":{"items":[
+              {"id":"k","name":"Blinding Lights (Karaoke Version)","artists":[{"name":"Sing King"}],
+               "album":{"name":"Karaoke Hits"},"duration_ms":200000,"external_urls":{"spotify":"url-k"}},
+              {"id":"o","name":"Blinding Lights","artists":[{"name":"The Weeknd"}],
+               "album":{"name":"After Hours"},"duration_ms":200040,"external_urls":{"spotify":"url-o"}}
+            ]}}
+            """;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    @Test
+    void testBestScoringCandidateIsReturned() {
+        Track track = service().searchTrack("Blinding Lights The Weeknd", "token");
+
+        assertEquals("o", track.getId());
+        assertEquals(1.0, track.getMatchConfidence(), 1e-9);
+    }
+
+    @Test
+    void testConcurrentIdenticalSearchesShareOneRequest() {
+        SpotifyService service = service();
+
+        List<Track> results = Flux.range(0, 10)
+                .flatMap(i -> service.searchTrackReactive(i % 2 == 0 ? "Blinding Lights The Weeknd"
+                        : "blinding lights the weeknd ", "token-" + i))
+                .collectList()
+                .block();
+
+        assertEquals(10, results.size());
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(1.0, registry.get("spotify.search.calls").tag("outcome", "upstream").counter().count());
+        assertEquals(9.0, registry.get("spotify.search.calls").tag("outcome", "coalesced").counter().count());
+
+        // Completed searches are not reused
+        service.searchTrack("Blinding Lights The Weeknd", "token");
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    void testFailedSearchIsNotReportedAsNotFound() {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.INTERNAL_SERVER_ERROR).build()))
+                .build();
+        SpotifyService service = new SpotifyService(webClient, registry, 5, 0.3, "", 4, 3);
+
+        assertThrows(WebClientResponseException.class, () -> service.searchTrack("Blinding Lights The Weeknd", "token"));
+    }
+
+    @Test
+    void testBatchesLandedOutOfOrderAreMovedIntoPlace() {
+        List<List<String>> batches = List.of(List.of("a1", "a2"), List.of("b1", "b2"), List.of("c1", "c2"), List.of("d1"));
+        List<String> landed = new ArrayList<>(List.of("c1", "c2", "d1", "a1", "a2", "b1", "b2"));
+
+        List<Integer> order = SpotifyService.landingOrder(batches, landed);
+        assertEquals(List.of(2, 3, 0, 1), order);
+
+        List<SpotifyService.PlaylistMove> moves = SpotifyService.moves(batches, order);
+        applyMoves(landed, moves);
+        assertEquals(List.of("a1", "a2", "b1", "b2", "c1", "c2", "d1"), landed);
+        assertEquals(2, moves.size());
+    }
+
+    @Test
+    void testBatchesAlreadyInOrderStayWhereTheyAre() {
+        List<List<String>> batches = List.of(List.of("a1"), List.of("b1", "b2"), List.of("c1"), List.of("d1", "d2"));
+        List<String> landed = new ArrayList<>(List.of("d1", "d2", "a1", "b1", "b2", "c1"));
+
+        List<SpotifyService.PlaylistMove> moves = SpotifyService.moves(batches, SpotifyService.landingOrder(batches, landed));
+        applyMoves(landed, moves);
+
+        // Only the last batch moves, behind the three that landed in order
+        assertEquals(List.of(new SpotifyService.PlaylistMove(0, 2, 6)), moves);
+        assertEquals(List.of("a1", "b1", "b2", "c1", "d1", "d2"), landed);
+    }
+
+    @Test
+    void testUnexpectedPlaylistContentIsNotReordered() {
+        List<List<String>> batches = List.of(List.of("a1", "a2"), List.of("b1"));
+
+        assertNull(SpotifyService.landingOrder(batches, List.of("b1", "x1", "a2")));
+        assertEquals(List.of(), SpotifyService.moves(batches, SpotifyService.landingOrder(batches, List.of("a1", "a2", "b1"))));
+    }
+
+    @Test
+    void testFailedBatchIsRetriedOnItsOwn() {
+        List<String> playlist = new ArrayList<>();
+        AtomicInteger posts = new AtomicInteger();
+        SpotifyService service = new SpotifyService(playlistClient(playlist, posts, false), registry, 5, 0.3, "", 4, 3);
+
+        assertTrue(service.addTracksToPlaylist("p1", List.of("spotify:track:1"), "token"));
+        assertEquals(2, posts.get());
+        assertEquals(List.of("spotify:track:1"), playlist);
+        assertEquals(1.0, registry.get("spotify.playlist.batches.retried").counter().count());
+    }
+
+    @Test
+    void testBatchAppliedDespiteErrorIsNotPostedAgain() {
+        List<String> playlist = new ArrayList<>(List.of("spotify:track:0"));
+        AtomicInteger posts = new AtomicInteger();
+        SpotifyService service = new SpotifyService(playlistClient(playlist, posts, true), registry, 5, 0.3, "", 4, 3);
+
+        assertTrue(service.addTracksToPlaylist("p1", List.of("spotify:track:1"), "token"));
+        assertEquals(1, posts.get());
+        assertEquals(List.of("spotify:track:0", "spotify:track:1"), playlist);
+    }
+
+    @Test
+    void testTracksAddedOutOfOrderAreNotReportedAsFailed() {
+        AtomicInteger versionReads = new AtomicInteger();
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    // Another writer adds 7 tracks instead of the 1100 posted here, so the order cannot be verified
+                    String body = request.method() == HttpMethod.POST
+                            ? "{\"snapshot_id\":\"s\"}"
+                            : "{\"snapshot_id\":\"s\",\"tracks\":{\"total\":" + (versionReads.getAndIncrement() == 0 ? 0 : 7) + "}}";
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(body)
+                            .build());
+                })
+                .build();
+        SpotifyService service = new SpotifyService(webClient, registry, 5, 0.3, "", 4, 3);
+        assertEquals(SpotifyService.PlaylistAppend.ADDED_OUT_OF_ORDER,
+                service.addTracksToPlaylistReactive("p1", trackUris(1100), "token").block());
+        assertEquals(1.0, registry.get("spotify.playlist.appends.unordered").counter().count());
+    }
+
+    @Test
+    void testSingleBatchIsPostedWithoutReadingThePlaylist() {
+        List<String> requests = new ArrayList<>();
+        SpotifyService service = new SpotifyService(appendClient(requests, -1), registry, 5, 0.3, "", 4, 3);
+
+        assertEquals(SpotifyService.PlaylistAppend.ADDED,
+                service.addTracksToPlaylistReactive("p1", trackUris(100), "token").block());
+        assertEquals(List.of("POST"), requests);
+    }
+
+    @Test
+    void testBatchesThatLandedBeforeAFailureAreReported() {
+        List<String> requests = new ArrayList<>();
+        List<Integer> reported = new ArrayList<>();
+        // Written one at a time: the second batch is rejected
+        SpotifyService service = new SpotifyService(appendClient(requests, 2), registry, 5, 0.3, "", 1, 3);
+
+        SpotifyService.PlaylistAppend result = service.addTracksToPlaylistReactive("p1", trackUris(250), "token",
+                added -> Mono.fromRunnable(() -> reported.add(added))).block();
+
+        assertEquals(SpotifyService.PlaylistAppend.FAILED, result);
+        assertEquals(List.of(100), reported);
+        // No batch is started after the failure
+        assertEquals(List.of("POST", "POST"), requests);
+    }
+
+    @Test
+    void testConcurrentBatchesReportTheirLandedPrefix() {
+        List<String> requests = new ArrayList<>();
+        List<Integer> reported = new ArrayList<>();
+        SpotifyService service = new SpotifyService(appendClient(requests, -1), registry, 5, 0.3, "", 4, 3);
+
+        service.addTracksToPlaylistReactive("p1", trackUris(1150), "token",
+                added -> Mono.fromRunnable(() -> reported.add(added))).block();
+
+        assertEquals(1150, reported.get(reported.size() - 1));
+        // Only concurrent batches need the playlist length they start from
+        assertEquals("GET", requests.get(0));
+    }
+
+    @Test
+    void testFewBatchesArePostedOneAtATime() {
+        List<String> requests = new ArrayList<>();
+        SpotifyService service = new SpotifyService(appendClient(requests, -1), registry, 5, 0.3, "", 4, 3);
+
+        assertEquals(SpotifyService.PlaylistAppend.ADDED,
+                service.addTracksToPlaylistReactive("p1", trackUris(1000), "token").block());
+        assertEquals(Collections.nCopies(10, "POST"), requests);
+    }
+
+    /**
+     * A playlist whose first append of {@code spotify:track:1} fails with a 502, after applying it if
+     * {@code appliedOnFailure}
+     */
+    private static WebClient playlistClient(List<String> playlist, AtomicInteger posts, boolean appliedOnFailure) {
+        return WebClient.builder()
+                .exchangeFunction(request -> {
+                    MultiValueMap<String, String> params = UriComponentsBuilder.fromUri(request.url()).build().getQueryParams();
+                    String body;
+                    if (request.method() == HttpMethod.POST) {
+                        boolean first = posts.incrementAndGet() == 1;
+                        if (!first || appliedOnFailure) {
+                            playlist.add("spotify:track:1");
+                        }
+                        if (first) {
+                            return Mono.just(ClientResponse.create(HttpStatus.BAD_GATEWAY).build());
+                        }
+                        body = "{\"snapshot_id\":\"s" + playlist.size() + "\"}";
+                    } else if (params.containsKey("offset")) {
+                        int offset = Integer.parseInt(params.getFirst("offset"));
+                        List<String> items = new ArrayList<>();
+                        for (String uri : playlist.subList(Math.min(offset, playlist.size()), playlist.size())) {
+                            items.add("{\"track\":{\"uri\":\"" + uri + "\"}}");
+                        }
+                        body = "{\"items\":[" + String.join(",", items) + "]}";
+                    } else {
+                        body = "{\"snapshot_id\":\"s" + playlist.size() + "\",\"tracks\":{\"total\":" + playlist.size() + "}}";
+                    }
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(body)
+                            .build());
+                })
+                .build();
+    }
+
+    /**
+     * Applies moves the way Spotify does: {@code insertBefore} is a position before the range is taken out
+     */
+    private static void applyMoves(List<String> playlist, List<SpotifyService.PlaylistMove> moves) {
+        for (SpotifyService.PlaylistMove move : moves) {
+            List<String> range = new ArrayList<>(playlist.subList(move.rangeStart(), move.rangeStart() + move.rangeLength()));
+            playlist.subList(move.rangeStart(), move.rangeStart() + move.rangeLength()).clear();
+            playlist.addAll(move.insertBefore() > move.rangeStart() ? move.insertBefore() - move.rangeLength() : move.insertBefore(), range);
+        }
+    }
+
+    /**
+     * A playlist that answers the {@code failingPost}-th append (1-based) with a 400 and applies the others;
+     * records the method of every request
+     */
+    private static WebClient appendClient(List<String> requests, int failingPost) {
+        return WebClient.builder()
+                .exchangeFunction(request -> {
+                    requests.add(request.method().name());
+                    MultiValueMap<String, String> params = UriComponentsBuilder.fromUri(request.url()).build().getQueryParams();
+                    String body;
+                    if (request.method() == HttpMethod.POST) {
+                        if (Collections.frequency(requests, "POST") == failingPost) {
+                            return Mono.just(ClientResponse.create(HttpStatus.BAD_REQUEST).build());
+                        }
+                        body = "{\"snapshot_id\":\"s\"}";
+                    } else if (params.containsKey("offset")) {
+                        body = "{\"items\":[]}";
+                    } else {
+                        body = "{\"snapshot_id\":\"s\",\"tracks\":{\"total\":0}}";
+                    }
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(body)
+                            .build());
+                })
+                .build();
+    }
+
+    private static List<String> trackUris(int count) {
+        List<String> uris = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            uris.add("spotify:track:" + i);
+        }
+        return uris;
+    }
+
+    private SpotifyService service() {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    upstreamCalls.incrementAndGet();
+                    return Mono.delay(Duration.ofMillis(50)).map(tick -> ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(SEARCH_RESPONSE)
+                            .build());
+                })
+                .build();
+        return new SpotifyService(webClient, registry, 5, 0.3, "", 4, 3);
+    }
+}
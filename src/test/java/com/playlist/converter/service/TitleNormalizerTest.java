@@ -0,0 +1,79 @@
+package com.playlist.converter.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TitleNormalizer
+ */
+class TitleNormalizerTest {
+
+    private static final List<String> TITLES = List.of(
+            "Song Title (Official Video)",
+            "Artist - Song [Official Music Video]",
+            "Beautiful Song (HD)",
+            "Great Track [4K]",
+            "Awesome Music (Lyrics)",
+            "Clean Title (Official Video) [HD] (Lyrics)",
+            "Normal Title",
+            "",
+            "   padded   ",
+            "Artist - Song (Official  Music\tVideo)",
+            "Artist - Topic",
+            "Artist -Topic (HD)",
+            "Song (official video)",
+            "Song (Official Video",
+            "(HD) leading decoration",
+            "Dua Lipa - Levitating (Official Audio) [4K]",
+            "米津玄師 - Lemon (Official Video)",
+            "Song 🎵 [Lyrics]"
+    );
+
+    @Test
+    void testVideoTitleMatchesLegacyReplaceAllChain() {
+        for (String title : TITLES) {
+            assertEquals(legacyCleanVideoTitle(title), TitleNormalizer.VIDEO_TITLE.normalize(title), title);
+        }
+    }
+
+    @Test
+    void testSearchQueryMatchesLegacyReplaceAllChain() {
+        for (String title : TITLES) {
+            String cleaned = legacyCleanVideoTitle(title);
+            assertEquals(legacySearchQuery(cleaned), TitleNormalizer.SEARCH_QUERY.normalize(cleaned), title);
+        }
+    }
+
+    @Test
+    void testUndecoratedTitleIsNotCopied() {
+        String title = "Normal Title";
+        assertSame(title, TitleNormalizer.VIDEO_TITLE.normalize(title));
+        assertEquals("", TitleNormalizer.VIDEO_TITLE.normalize(null));
+    }
+
+    private static String legacyCleanVideoTitle(String title) {
+        return title
+                .replaceAll("\\s*\\(Official\\s+Video\\)", "")
+                .replaceAll("\\s*\\(Official\\s+Music\\s+Video\\)", "")
+                .replaceAll("\\s*\\(Official\\s+Audio\\)", "")
+                .replaceAll("\\s*\\[Official\\s+Video\\]", "")
+                .replaceAll("\\s*\\[Official\\s+Music\\s+Video\\]", "")
+                .replaceAll("\\s*\\[Official\\s+Audio\\]", "")
+                .replaceAll("\\s*\\(HD\\)", "")
+                .replaceAll("\\s*\\[HD\\]", "")
+                .replaceAll("\\s*\\(4K\\)", "")
+                .replaceAll("\\s*\\[4K\\]", "")
+                .replaceAll("\\s*\\(Lyrics\\)", "")
+                .replaceAll("\\s*\\[Lyrics\\]", "")
+                .trim();
+    }
+
+    private static String legacySearchQuery(String cleanedTitle) {
+        return legacyCleanVideoTitle(cleanedTitle)
+                .replaceAll("\\s*-\\s*Topic", "")
+                .trim();
+    }
+}
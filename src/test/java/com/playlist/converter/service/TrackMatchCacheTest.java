@@ -0,0 +1,69 @@
+package com.playlist.converter.service;
+
+import com.playlist.converter.model.Track;
+import com.playlist.converter.model.TrackMatchCacheEntry;
+import com.playlist.converter.repository.TrackMatchCacheRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TrackMatchCache
+ */
+@ExtendWith(MockitoExtension.class)
+class TrackMatchCacheTest {
+
+    @Mock
+    private TrackMatchCacheRepository repository;
+
+    private TrackMatchCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TrackMatchCache(repository, new SimpleMeterRegistry(), 2, 720, 24);
+    }
+
+    @Test
+    void testPositiveAndNegativeEntriesAreServedFromMemory() {
+        cache.put("video1", Track.fromSpotify("id1", "Song", "Artist", "Album", 1000L, "url"));
+        cache.put("video2", null);
+
+        assertTrue(cache.get("video1").isMatched());
+        assertEquals("id1", cache.get("video1").getTrack().getId());
+        assertFalse(cache.get("video2").isMatched());
+        verify(repository, never()).findById(anyString());
+        assertEquals(1.0, cache.getHitRatio());
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted() {
+        cache.put("video1", null);
+        cache.put("video2", null);
+        cache.get("video1");
+        cache.put("video3", null);
+
+        when(repository.findById("video2")).thenReturn(Optional.empty());
+        assertNull(cache.get("video2"));
+        assertNotNull(cache.get("video1"));
+    }
+
+    @Test
+    void testExpiredNegativeEntryIsAMiss() {
+        TrackMatchCacheEntry stale = TrackMatchCacheEntry.of("video1", null);
+        stale.setCachedAt(LocalDateTime.now().minusHours(25));
+        when(repository.findById("video1")).thenReturn(Optional.of(stale));
+
+        assertNull(cache.get("video1"));
+        assertEquals(0.0, cache.getHitRatio());
+    }
+}
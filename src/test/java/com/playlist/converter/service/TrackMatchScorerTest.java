@@ -0,0 +1,57 @@
+package com.playlist.converter.service;
+
+import com.playlist.converter.model.Track;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TrackMatchScorer
+ */
+class TrackMatchScorerTest {
+
+    @Test
+    void testExactTitleAndArtistBeatsFirstResult() {
+        Track karaoke = spotify("k", "Blinding Lights (Karaoke Version)", "Sing King", 200_000L);
+        Track original = spotify("o", "Blinding Lights", "The Weeknd", 200_040L);
+
+        Track best = TrackMatchScorer.best("Blinding Lights The Weeknd", null, List.of(karaoke, original));
+
+        assertEquals("o", best.getId());
+        assertEquals(1.0, best.getMatchConfidence(), 1e-9);
+    }
+
+    @Test
+    void testDurationBreaksTiesBetweenVersions() {
+        Track radioEdit = spotify("r", "Strobe", "deadmau5", 214_000L);
+        Track albumVersion = spotify("a", "Strobe", "deadmau5", 637_000L);
+
+        Track best = TrackMatchScorer.best("Strobe deadmau5", 640_000L, List.of(radioEdit, albumVersion));
+
+        assertEquals("a", best.getId());
+    }
+
+    @Test
+    void testUnrelatedCandidateScoresLow() {
+        Track unrelated = spotify("u", "Numb", "Linkin Park", 185_000L);
+
+        Track best = TrackMatchScorer.best("Levitating Dua Lipa", null, List.of(unrelated));
+
+        assertTrue(best.getMatchConfidence() < 0.3);
+    }
+
+    @Test
+    void testTokensIgnoreCasePunctuationAndFiller() {
+        assertEquals(Set.of("get", "lucky", "pharrell", "williams"),
+                TrackMatchScorer.tokens("Get Lucky (feat. Pharrell Williams) [Official Audio]"));
+        assertEquals(Set.of("米津玄師", "lemon"), TrackMatchScorer.tokens("米津玄師 - Lemon"));
+        assertNull(TrackMatchScorer.best("anything", null, List.of()));
+    }
+
+    private Track spotify(String id, String title, String artist, Long durationMs) {
+        return Track.fromSpotify(id, title, artist, "Album", durationMs, "url");
+    }
+}
@@ -1,5 +1,7 @@
 package com.playlist.converter.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playlist.converter.dto.youtube.YouTubeVideoListResponse;
 import com.playlist.converter.model.Track;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -8,6 +10,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -23,7 +27,7 @@ class YouTubeServiceTest {
     
     @BeforeEach
     void setUp() {
-        youTubeService = new YouTubeService(webClient, "test-api-key");
+        youTubeService = new YouTubeService(webClient, "test-api-key", true);
     }
     
     @Test
@@ -59,4 +63,43 @@ class YouTubeServiceTest {
         assertNull(track.getArtist());
         assertNull(track.getAlbum());
     }
+    
+    @Test
+    void testParseDurationMs() {
+        assertEquals(253_000L, YouTubeService.parseDurationMs("PT4M13S"));
+        assertEquals(3_723_000L, YouTubeService.parseDurationMs("PT1H2M3S"));
+        assertNull(YouTubeService.parseDurationMs("P0D"));
+        assertNull(YouTubeService.parseDurationMs("bogus"));
+        assertNull(YouTubeService.parseDurationMs(null));
+    }
+    
+    @Test
+    void testApplyVideoDetails() throws Exception {
+        YouTubeVideoListResponse response = new ObjectMapper().readValue("""
+                {"items":[
+                  {"id":"v1","snippet":{"channelTitle":"Fleetwood Mac - Topic","categoryId":"10"},
+                   "contentDetails":{"duration":"PT4M18S"},
+                   "topicDetails":{"topicCategories":["https://en.wikipedia.org/wiki/Rock_music"]}},
+                  {"id":"v2","snippet":{"channelTitle":"TheWeekndVEVO","categoryId":"10"},
+                   "contentDetails":{"duration":"PT4M22S"}}
+                ]}
+                """, YouTubeVideoListResponse.class);
+        Track topicUpload = Track.fromYouTube("v1", "Dreams");
+        Track vevoUpload = Track.fromYouTube("v2", "The Weeknd - Blinding Lights (Official Video)");
+        Track missing = Track.fromYouTube("v3", "Removed between calls");
+        
+        YouTubeService.applyVideoDetails(List.of(topicUpload, vevoUpload, missing), response);
+        
+        assertEquals(258_000L, topicUpload.getDurationMs());
+        assertEquals("Fleetwood Mac", topicUpload.getArtist());
+        assertEquals("10", topicUpload.getCategoryId());
+        assertEquals(List.of("Rock music"), topicUpload.getTopics());
+        
+        assertEquals(262_000L, vevoUpload.getDurationMs());
+        assertEquals("TheWeekndVEVO", vevoUpload.getChannelTitle());
+        assertNull(vevoUpload.getArtist());
+        assertTrue(vevoUpload.getTopics().isEmpty());
+        
+        assertNull(missing.getDurationMs());
+    }
 }